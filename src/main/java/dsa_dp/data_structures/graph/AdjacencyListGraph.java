@@ -1,14 +1,24 @@
 package dsa_dp.data_structures.graph;
 
+import dsa_dp.data_structures.graph.heuristic.DistanceHeuristic;
 import dsa_dp.data_structures.graph.model.Vertex;
-import dsa_dp.data_structures.queue.IndexedPriorityQueue;
-import dsa_dp.data_structures.queue.Queue;
+import dsa_dp.data_structures.graph.observer.EdgeObserver;
+import dsa_dp.data_structures.hash_table.LongObjectMap;
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+import dsa_dp.data_structures.queue.IntQueue;
 
 import java.util.*;
 
 public class AdjacencyListGraph {
     private final static int VERTICES_NUMBER = 100;
-    private final Map<Vertex, LinkedHashSet<Vertex>> adjacentMap;
+    // Indexed by vertex, so that the searches reach the edges of a vertex without allocating a lookup key
+    private final ArrayList<LinkedHashSet<Vertex>> adjacencyList;
+    // Reverse adjacency (vertex ---> vertices having an edge towards it), needed by the backward searches
+    private final ArrayList<LinkedHashSet<Vertex>> incomingList;
+    // (from, to) ---> {vertex inside the outgoing set of 'from', vertex inside the incoming set of 'to'},
+    // edge lookups and weight updates don't have to scan the adjacency sets
+    private final LongObjectMap<Vertex[]> edges = new LongObjectMap<>();
+    private final ArrayList<EdgeObserver> observers = new ArrayList<>();
     public int numberOfEdges = 0;
 
 
@@ -25,10 +35,13 @@ public class AdjacencyListGraph {
      * @param verticesNumber The starting vertices number of the Graph
      */
     public AdjacencyListGraph(int verticesNumber) {
-        adjacentMap = new HashMap<>();
+        adjacencyList = new ArrayList<>(verticesNumber);
+        incomingList = new ArrayList<>(verticesNumber);
 
-        for (int i = 0; i < verticesNumber; i++)
-            adjacentMap.put(new Vertex(i), new LinkedHashSet<>());
+        for (int i = 0; i < verticesNumber; i++) {
+            adjacencyList.add(new LinkedHashSet<>());
+            incomingList.add(new LinkedHashSet<>());
+        }
     }
 
     /**
@@ -52,21 +65,13 @@ public class AdjacencyListGraph {
      * @return false if the given vertices outbounds the matrix size, true otherwise
      */
     public boolean addEdge(int from, int to, boolean isUndirected) {
-        if (from > adjacentMap.size() || to > adjacentMap.size() || from == to)
+        if (!isValidEdge(from, to))
             return false;
 
-        Vertex vFrom = new Vertex(from);
-        Vertex vTo = new Vertex(to);
+        this.insertEdge(from, to, 0);
 
-        if (!adjacentMap.get(vFrom).contains(vTo)) {
-            numberOfEdges++;
-            adjacentMap.get(vFrom).add(vTo);
-        }
-
-        if (isUndirected && !adjacentMap.get(vTo).contains(vFrom)) {
-            numberOfEdges++;
-            adjacentMap.get(vTo).add(vFrom);
-        }
+        if (isUndirected)
+            this.insertEdge(to, from, 0);
 
         return true;
     }
@@ -81,16 +86,10 @@ public class AdjacencyListGraph {
      * @return false if the given vertices outbounds the matrix size, true otherwise
      */
     public boolean addWeightedEdge(int from, int to, int weight) {
-        if (from > adjacentMap.size() || to > adjacentMap.size() || from == to)
+        if (!isValidEdge(from, to))
             return false;
 
-        Vertex vFrom = new Vertex(from);
-        Vertex vTo = new Vertex(to, weight);
-
-        if (!adjacentMap.get(vFrom).contains(vTo)) {
-            numberOfEdges++;
-            adjacentMap.get(vFrom).add(vTo);
-        }
+        this.insertEdge(from, to, weight);
 
         return true;
     }
@@ -103,17 +102,111 @@ public class AdjacencyListGraph {
      * @return False if the given edge does not exist, true otherwise
      */
     public boolean removeEdge(int from, int to) {
-        Vertex vFrom = new Vertex(from);
-        Vertex vTo = new Vertex(to);
+        if (!isValidEdge(from, to))
+            return false;
+
+        Vertex[] edge = edges.get(edgeKey(from, to));
+        if (edge == null) return false;
 
-        if (adjacentMap.get(vFrom).contains(vTo)) {
-            numberOfEdges--;
-            adjacentMap.get(vFrom).remove(vTo);
+        numberOfEdges--;
+        edges.remove(edgeKey(from, to));
+        adjacencyList.get(from).remove(edge[0]);
+        incomingList.get(to).remove(edge[1]);
 
-            return true;
+        for (EdgeObserver observer : observers) {
+            observer.edgeRemoved(from, to, edge[0].weight);
         }
 
-        return false;
+        return true;
+    }
+
+    /**
+     * Updates the weight of an existing edge
+     *
+     * @param from   Starting vertex's edge
+     * @param to     Ending vertex's edge
+     * @param weight Edge's weight
+     * @return false if the given edge does not exist, true otherwise
+     */
+    public boolean putEdgeWeight(int from, int to, int weight) {
+        if (!isValidEdge(from, to))
+            return false;
+
+        Vertex[] edge = edges.get(edgeKey(from, to));
+        if (edge == null) return false;
+
+        int oldWeight = edge[0].weight;
+        edge[0].weight = weight;
+        edge[1].weight = weight;
+
+        for (EdgeObserver observer : observers) {
+            observer.edgeWeightChanged(from, to, oldWeight, weight);
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers an observer that will be notified after every edge addition, removal or weight change
+     *
+     * @param observer EdgeObserver
+     */
+    public void registerObserver(EdgeObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Stops notifying the given observer
+     *
+     * @param observer EdgeObserver
+     */
+    public void unregisterObserver(EdgeObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Returns the weight of the edge going from the 'from' vertex to the 'to' vertex
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return The edge weight, null if the edge does not exist
+     */
+    public Integer getEdgeWeight(int from, int to) {
+        if (!isValidEdge(from, to))
+            return null;
+
+        Vertex[] edge = edges.get(edgeKey(from, to));
+
+        return edge != null ? edge[0].weight : null;
+    }
+
+    /**
+     * Returns the number of vertices of the graph
+     *
+     * @return int
+     */
+    public int verticesNumber() {
+        return adjacencyList.size();
+    }
+
+    /**
+     * Returns the vertices reached by the outgoing edges of the given vertex, in insertion order
+     *
+     * @param v Index of the vertex
+     * @return The set of the adjacent vertices, each one carrying the weight of its edge
+     */
+    LinkedHashSet<Vertex> getAdjacentVertices(int v) {
+        return adjacencyList.get(v);
+    }
+
+    /**
+     * Returns the vertices having an edge towards the given vertex
+     *
+     * @param v Index of the vertex
+     * @return The set of the incoming vertices, each one carrying the weight of its edge
+     */
+    LinkedHashSet<Vertex> getIncomingVertices(int v) {
+        return incomingList.get(v);
     }
 
     /**
@@ -123,22 +216,26 @@ public class AdjacencyListGraph {
      * @return List of connected vertices in order of visit
      */
     public ArrayList<Integer> iterativeDfs(int v) {
-        if (v > adjacentMap.size()) throw new IndexOutOfBoundsException();
+        if (v > adjacencyList.size()) throw new IndexOutOfBoundsException();
 
-        ArrayList<Integer> res = new ArrayList<>(adjacentMap.size());
-        boolean[] visited = new boolean[adjacentMap.size()];
-        Stack<Integer> stack = new Stack<>();
-        stack.push(v);
+        ArrayList<Integer> res = new ArrayList<>(adjacencyList.size());
+        boolean[] visited = new boolean[adjacencyList.size()];
+        // Array backed stack of primitive ints, no boxing and no synchronization of java.util.Stack
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = v;
 
-        while (!stack.isEmpty()) {
-            v = stack.pop();
+        while (top > 0) {
+            v = stack[--top];
 
             if (!visited[v]) {
                 visited[v] = true;
                 res.add(v);
 
-                for (Vertex adj : adjacentMap.get(new Vertex(v))) {
-                    if (!visited[adj.i]) stack.push(adj.i);
+                for (Vertex adj : adjacencyList.get(v)) {
+                    if (visited[adj.i]) continue;
+                    if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                    stack[top++] = adj.i;
                 }
             }
         }
@@ -153,17 +250,17 @@ public class AdjacencyListGraph {
      * @return List of connected vertices in order of visit
      */
     public ArrayList<Integer> iterativeBfs(int v) {
-        if (v > adjacentMap.size()) throw new IndexOutOfBoundsException();
+        if (v > adjacencyList.size()) throw new IndexOutOfBoundsException();
 
-        ArrayList<Integer> res = new ArrayList<>(adjacentMap.size());
-        boolean[] visited = new boolean[adjacentMap.size()];
-        Queue<Integer> queue = new Queue<>();
+        ArrayList<Integer> res = new ArrayList<>(adjacencyList.size());
+        boolean[] visited = new boolean[adjacencyList.size()];
+        IntQueue queue = new IntQueue();
         queue.enqueue(v);
         visited[v] = true;
 
         while (!queue.isEmpty()) {
             v = queue.dequeue();
-            LinkedHashSet<Vertex> neighbours = adjacentMap.get(new Vertex(v));
+            LinkedHashSet<Vertex> neighbours = adjacencyList.get(v);
             res.add(v);
 
             for (Vertex adj : neighbours) {
@@ -186,10 +283,10 @@ public class AdjacencyListGraph {
      * an empty array otherwise
      */
     public ArrayList<Integer> shortestPath(int s, int e) {
-        ArrayList<Integer> parent = new ArrayList<>(Collections.nCopies(adjacentMap.size(), null));
-        boolean[] visited = new boolean[adjacentMap.size()];
+        int[] parent = this.newParentArray();
+        boolean[] visited = new boolean[adjacencyList.size()];
         boolean found = false;
-        Queue<Integer> queue = new Queue<>();
+        IntQueue queue = new IntQueue();
         queue.enqueue(s);
 
         // Performing a BFS with early return in case the 'ending' vertex is found
@@ -197,13 +294,13 @@ public class AdjacencyListGraph {
             if (found) break;
 
             int v = queue.dequeue();
-            LinkedHashSet<Vertex> neighbours = adjacentMap.get(new Vertex(v));
+            LinkedHashSet<Vertex> neighbours = adjacencyList.get(v);
 
             for (Vertex neighbour : neighbours) {
                 if (!visited[neighbour.i]) {
                     queue.enqueue(neighbour.i);
                     visited[neighbour.i] = true;
-                    parent.set(neighbour.i, v);
+                    parent[neighbour.i] = v;
 
                     if (neighbour.i == e) {
                         found = true;
@@ -221,7 +318,8 @@ public class AdjacencyListGraph {
     }
 
     /**
-     * Computes (if it exists) the shortest path from vertex 'from' to vertex 'to'
+     * Computes (if it exists) the shortest path from vertex 'from' to vertex 'to'.
+     * The search stops as soon as the 'to' vertex gets settled, so only the vertices closer than 'to' are expanded
      *
      * @param from starting vertex
      * @param to   ending vertex
@@ -229,41 +327,130 @@ public class AdjacencyListGraph {
      * an empty array otherwise
      */
     public ArrayList<Integer> djikstraShortestPath(int from, int to) {
-        boolean[] visited = new boolean[adjacentMap.size()];
-        IndexedPriorityQueue<Integer, Integer> iPriorityQueue = new IndexedPriorityQueue<>();
-        ArrayList<Integer> parent = new ArrayList<>(Collections.nCopies(adjacentMap.size(), null));
-        int[] dist = new int[adjacentMap.size()];
-        boolean found = false;
+        int[] parent = this.newParentArray();
+        int[] dist = this.runDjikstra(from, to, parent);
+
+        return from != to && dist[to] != Integer.MAX_VALUE ? this.reconstructPath(to, parent) : new ArrayList<>();
+    }
+
+    /**
+     * Computes (if it exists) the shortest path from vertex 'from' to vertex 'to' running two Dijkstra searches,
+     * a forward one from 'from' and a backward one (on the incoming edges) from 'to', that meet in the middle.
+     * Each search only has to cover about half of the distance, which usually settles far fewer vertices
+     *
+     * @param from starting vertex
+     * @param to   ending vertex
+     * @return An array containing the vertices that compose the shortest path from 'from' to 'to' if the path is found,
+     * an empty array otherwise
+     */
+    public ArrayList<Integer> bidirectionalDjikstraShortestPath(int from, int to) {
+        if (from == to) return new ArrayList<>();
+
+        int n = adjacencyList.size();
+        IntIndexedPriorityQueue forwardQueue = new IntIndexedPriorityQueue(n);
+        IntIndexedPriorityQueue backwardQueue = new IntIndexedPriorityQueue(n);
+        int[] forwardParent = this.newParentArray(), backwardParent = this.newParentArray();
+        int[] forwardDist = new int[n], backwardDist = new int[n];
+        boolean[] forwardSettled = new boolean[n], backwardSettled = new boolean[n];
+        int best = Integer.MAX_VALUE, meeting = -1;
+
+        Arrays.fill(forwardDist, Integer.MAX_VALUE);
+        Arrays.fill(backwardDist, Integer.MAX_VALUE);
+        forwardQueue.insert(from, 0);
+        backwardQueue.insert(to, 0);
+        forwardDist[from] = 0;
+        backwardDist[to] = 0;
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()) {
+            // No path shorter than the best one found so far can go through the unsettled vertices
+            if ((long) forwardQueue.peekValue() + backwardQueue.peekValue() >= best) break;
+
+            // Expanding the search that has the smaller frontier
+            boolean forward = forwardQueue.size() <= backwardQueue.size();
+            IntIndexedPriorityQueue queue = forward ? forwardQueue : backwardQueue;
+            ArrayList<LinkedHashSet<Vertex>> edges = forward ? adjacencyList : incomingList;
+            int[] dist = forward ? forwardDist : backwardDist, otherDist = forward ? backwardDist : forwardDist;
+            boolean[] settled = forward ? forwardSettled : backwardSettled;
+            int[] parent = forward ? forwardParent : backwardParent;
+
+            int currentV = queue.poll();
+            settled[currentV] = true;
+
+            for (Vertex v : edges.get(currentV)) {
+                if (settled[v.i]) continue;
+                int newDist = dist[currentV] + v.weight;
+
+                if (newDist < dist[v.i]) {
+                    dist[v.i] = newDist;
+                    parent[v.i] = currentV;
+
+                    if (!queue.contains(v.i)) queue.insert(v.i, newDist);
+                    else queue.decreaseKey(v.i, newDist);
+                }
+
+                // The two searches touched each other, this is a candidate shortest path
+                if (otherDist[v.i] != Integer.MAX_VALUE && dist[v.i] + otherDist[v.i] < best) {
+                    best = dist[v.i] + otherDist[v.i];
+                    meeting = v.i;
+                }
+            }
+        }
+
+        if (meeting == -1) return new ArrayList<>();
+
+        ArrayList<Integer> path = this.reconstructPath(meeting, forwardParent);
+
+        for (int at = backwardParent[meeting]; at != -1; at = backwardParent[at]) {
+            path.add(at);
+        }
+
+        return path;
+    }
+
+    /**
+     * Computes (if it exists) the shortest path from vertex 'from' to vertex 'to' using the A* algorithm.
+     * Vertices are expanded in order of (distance from 'from' + estimated distance to 'to'), so the search is
+     * driven towards the target. The heuristic must be admissible (it never overestimates the real distance),
+     * otherwise the returned path may not be the shortest one
+     *
+     * @param from      starting vertex
+     * @param to        ending vertex
+     * @param heuristic Estimates the remaining distance between a vertex and 'to'
+     * @return An array containing the vertices that compose the shortest path from 'from' to 'to' if the path is found,
+     * an empty array otherwise
+     */
+    public ArrayList<Integer> aStarShortestPath(int from, int to, DistanceHeuristic heuristic) {
+        if (from == to) return new ArrayList<>();
+
+        int n = adjacencyList.size();
+        IntIndexedPriorityQueue iPriorityQueue = new IntIndexedPriorityQueue(n);
+        int[] parent = this.newParentArray();
+        int[] dist = new int[n];
 
         Arrays.fill(dist, Integer.MAX_VALUE);
-        iPriorityQueue.insert(from, 0);
+        iPriorityQueue.insert(from, heuristic.estimate(from, to));
         dist[from] = 0;
 
-        while (iPriorityQueue.size() > 0) {
-            Vertex currentV = new Vertex(iPriorityQueue.poll());
-            visited[currentV.i] = true;
+        while (!iPriorityQueue.isEmpty()) {
+            int currentV = iPriorityQueue.poll();
+            if (currentV == to) return this.reconstructPath(to, parent);
 
-            for (Vertex v : adjacentMap.get(currentV)) {
-                if (visited[v.i]) continue;
-                int newDist = dist[currentV.i] + v.weight;
+            for (Vertex v : adjacencyList.get(currentV)) {
+                int newDist = dist[currentV] + v.weight;
 
+                // Already expanded vertices get reopened when a shorter path to them is found
                 if (newDist < dist[v.i]) {
+                    int priority = newDist + heuristic.estimate(v.i, to);
                     dist[v.i] = newDist;
+                    parent[v.i] = currentV;
 
-                    if (!iPriorityQueue.contains(v.i))
-                        iPriorityQueue.insert(v.i, newDist);
-                    else
-                        iPriorityQueue.update(v.i, newDist);
-
-                    parent.set(v.i, currentV.i);
-
-                    if (v.i == to)
-                        found = true;
+                    if (!iPriorityQueue.contains(v.i)) iPriorityQueue.insert(v.i, priority);
+                    else iPriorityQueue.decreaseKey(v.i, priority);
                 }
             }
         }
 
-        return found ? this.reconstructPath(to, parent) : new ArrayList<>();
+        return new ArrayList<>();
     }
 
     /**
@@ -274,27 +461,76 @@ public class AdjacencyListGraph {
      * res[vertexI] = (distance from starting vertex)
      */
     public int[] djikstra(int from) {
-        IndexedPriorityQueue<Integer, Integer> iPriorityQueue = new IndexedPriorityQueue<>();
-        boolean[] visited = new boolean[adjacentMap.size()];
-        int[] dist = new int[adjacentMap.size()];
+        return this.runDjikstra(from, -1, null);
+    }
+
+    /**
+     * Computes the shortest distances between every pair of vertices with the Johnson's algorithm,
+     * running it on a compressed copy of the graph
+     *
+     * @return res[from][to] = (distance between the two vertices), Integer.MAX_VALUE if 'to' cannot be reached
+     * @throws IllegalStateException if the graph contains a negative cycle
+     */
+    public int[][] johnson() {
+        return new CompressedSparseRowGraph(this).johnson();
+    }
+
+    /**
+     * Computes the strongly connected components with the Tarjan's algorithm,
+     * running it on a compressed copy of the graph
+     *
+     * @return res[vertexI] = (component of the vertex), components numbered in topological order
+     */
+    public int[] stronglyConnectedComponents() {
+        return new CompressedSparseRowGraph(this).stronglyConnectedComponents();
+    }
+
+    /**
+     * Computes a topological order of the vertices with the Kahn's algorithm,
+     * running it on a compressed copy of the graph
+     *
+     * @return The vertices in topological order
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    public int[] topologicalSort() {
+        return new CompressedSparseRowGraph(this).topologicalSort();
+    }
+
+    /**
+     * Eager Dijkstra's algorithm driven by an int indexed priority queue,
+     * every poll and decrease-key operation costs O(log n)
+     *
+     * @param from   index of the starting vertex
+     * @param target index of the vertex that stops the search once settled, -1 to explore the whole graph
+     * @param parent Optional array that gets populated with the parent of every reached vertex
+     * @return The distances array, only the distances of the settled vertices are final
+     */
+    private int[] runDjikstra(int from, int target, int[] parent) {
+        IntIndexedPriorityQueue iPriorityQueue = new IntIndexedPriorityQueue(adjacencyList.size());
+        boolean[] visited = new boolean[adjacencyList.size()];
+        int[] dist = new int[adjacencyList.size()];
 
         Arrays.fill(dist, Integer.MAX_VALUE);
         iPriorityQueue.insert(from, 0);
         dist[from] = 0;
 
-        while (iPriorityQueue.size() > 0) {
-            Vertex currentV = new Vertex(iPriorityQueue.poll());
-            visited[currentV.i] = true;
+        while (!iPriorityQueue.isEmpty()) {
+            int currentV = iPriorityQueue.poll();
+            visited[currentV] = true;
+
+            if (currentV == target) break;
 
-            for (Vertex v : adjacentMap.get(currentV)) {
+            for (Vertex v : adjacencyList.get(currentV)) {
                 if (visited[v.i]) continue;
-                int newDist = dist[currentV.i] + v.weight;
+                int newDist = dist[currentV] + v.weight;
 
                 if (newDist < dist[v.i]) {
                     dist[v.i] = newDist;
 
                     if (!iPriorityQueue.contains(v.i)) iPriorityQueue.insert(v.i, newDist);
-                    else iPriorityQueue.update(v.i, newDist);
+                    else iPriorityQueue.decreaseKey(v.i, newDist);
+
+                    if (parent != null) parent[v.i] = currentV;
                 }
             }
         }
@@ -303,20 +539,73 @@ public class AdjacencyListGraph {
     }
 
     /**
-     * Populates the given path array with the vertices that compose the path,
-     * it also calls a reverse method to make it more readable
+     * Stores the edge in both the outgoing and the incoming adjacency, if it does not exist already
+     *
+     * @param from   Starting vertex's edge
+     * @param to     Ending vertex's edge
+     * @param weight Edge weight
+     */
+    private void insertEdge(int from, int to, int weight) {
+        long key = edgeKey(from, to);
+        if (edges.containsKey(key)) return;
+
+        Vertex out = new Vertex(to, weight), in = new Vertex(from, weight);
+        numberOfEdges++;
+        adjacencyList.get(from).add(out);
+        incomingList.get(to).add(in);
+        edges.add(key, new Vertex[]{out, in});
+
+        for (EdgeObserver observer : observers) {
+            observer.edgeAdded(from, to, weight);
+        }
+    }
+
+    /**
+     * Packs the two vertices of an edge in the key of the edges map
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return long
+     */
+    private static long edgeKey(int from, int to) {
+        return (long) from << 32 | to;
+    }
+
+    /**
+     * Returns true if both vertices belong to the graph and they are not the same vertex
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return boolean
+     */
+    private boolean isValidEdge(int from, int to) {
+        return from >= 0 && to >= 0 && from < adjacencyList.size() && to < adjacencyList.size() && from != to;
+    }
+
+    /**
+     * Returns a new parent array filled with -1 (no parent) values
      *
-     * @param at   The vertex from which it starts to iterate the path in reverse
-     * @param prev The list containing the parent vertices
+     * @return int[]
+     */
+    private int[] newParentArray() {
+        int[] parent = new int[adjacencyList.size()];
+        Arrays.fill(parent, -1);
+
+        return parent;
+    }
+
+    /**
+     * Walks the given parent array backwards starting from the given vertex and returns the path in the right order
+     *
+     * @param at     The vertex from which it starts to iterate the path in reverse
+     * @param parent The array containing the parent vertices
      * @return path The list containing all the path vertices
      */
-    private ArrayList<Integer> reconstructPath(int at, ArrayList<Integer> prev) {
+    private ArrayList<Integer> reconstructPath(int at, int[] parent) {
         ArrayList<Integer> path = new ArrayList<>();
-        path.add(at);
 
-        while (prev.get(at) != null) {
-            at = prev.get(at);
-            path.add(at);
+        for (int v = at; v != -1; v = parent[v]) {
+            path.add(v);
         }
 
         return this.reverse(path);
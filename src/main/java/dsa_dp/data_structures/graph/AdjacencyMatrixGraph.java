@@ -3,9 +3,12 @@ package dsa_dp.data_structures.graph;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Stack;
+import java.util.stream.IntStream;
 
 public class AdjacencyMatrixGraph {
     private final static int VERTICES_NUMBER = 100;
+    // Side of the square tiles used by the blocked Floyd-Warshall, 64x64 ints fit comfortably in the L1/L2 caches
+    private final static int TILE_SIZE = 64;
     private final int[][] matrix;
     public int numberOfEdges = 0;
 
@@ -147,6 +150,47 @@ public class AdjacencyMatrixGraph {
         return res;
     }
 
+    /**
+     * Computes the shortest distances between every pair of vertices using a tiled (cache blocked) Floyd-Warshall.
+     * The matrix is split in TILE_SIZE x TILE_SIZE tiles and, for every block of intermediate vertices 'k':
+     * 1. the diagonal tile (k, k) is updated alone
+     * 2. the tiles of row k and column k are updated in parallel, they only depend on the diagonal tile
+     * 3. all the remaining tiles are updated in parallel, they only depend on the tiles of row k and column k
+     * Every tile update works on data that stays in cache, and phases 2 and 3 are spread on the common ForkJoinPool
+     *
+     * @return res[from][to] = (distance between the two vertices), Integer.MAX_VALUE if 'to' cannot be reached
+     */
+    public int[][] floydWarshall() {
+        int n = matrix.length;
+        int tiles = (n + TILE_SIZE - 1) / TILE_SIZE;
+        int[][] dist = new int[n][n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                dist[i][j] = i == j ? 0 : matrix[i][j] > 0 ? matrix[i][j] : Integer.MAX_VALUE;
+            }
+        }
+
+        for (int k = 0; k < tiles; k++) {
+            final int kTile = k;
+            updateTile(dist, kTile, kTile, kTile);
+
+            IntStream.range(0, tiles).parallel().filter(t -> t != kTile).forEach(t -> {
+                updateTile(dist, kTile, t, kTile);
+                updateTile(dist, t, kTile, kTile);
+            });
+
+            IntStream.range(0, tiles * tiles).parallel().forEach(t -> {
+                int iTile = t / tiles, jTile = t % tiles;
+
+                if (iTile != kTile && jTile != kTile)
+                    updateTile(dist, iTile, jTile, kTile);
+            });
+        }
+
+        return dist;
+    }
+
     /**
      * Prints the graph in a visually comprehensible format
      *
@@ -164,6 +208,36 @@ public class AdjacencyMatrixGraph {
         return Arrays.deepToString(matrix);
     }
 
+    /**
+     * Relaxes the distances of the tile (iTile, jTile) using the vertices of the tile 'kTile' as intermediate vertices
+     *
+     * @param dist  The distances matrix
+     * @param iTile Row index of the tile to update
+     * @param jTile Column index of the tile to update
+     * @param kTile Index of the block of intermediate vertices
+     */
+    private void updateTile(int[][] dist, int iTile, int jTile, int kTile) {
+        int n = dist.length;
+        int iEnd = Math.min(n, (iTile + 1) * TILE_SIZE);
+        int jEnd = Math.min(n, (jTile + 1) * TILE_SIZE);
+        int kEnd = Math.min(n, (kTile + 1) * TILE_SIZE);
+
+        for (int k = kTile * TILE_SIZE; k < kEnd; k++) {
+            int[] kRow = dist[k];
+
+            for (int i = iTile * TILE_SIZE; i < iEnd; i++) {
+                int[] iRow = dist[i];
+                int ik = iRow[k];
+                if (ik == Integer.MAX_VALUE) continue;
+
+                for (int j = jTile * TILE_SIZE; j < jEnd; j++) {
+                    if (kRow[j] != Integer.MAX_VALUE && ik + kRow[j] < iRow[j])
+                        iRow[j] = ik + kRow[j];
+                }
+            }
+        }
+    }
+
     /**
      * Internal method that performs the DFS in a recursive fashion
      *
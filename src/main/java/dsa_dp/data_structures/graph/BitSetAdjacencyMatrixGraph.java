@@ -0,0 +1,314 @@
+package dsa_dp.data_structures.graph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Unweighted adjacency matrix where every row is a bitset packed into longs (1 bit per edge instead of an int),
+ * the rows are stored one after the other inside a single array.
+ * Neighbours are scanned 64 at a time skipping the empty words and jumping straight to the set bits.
+ */
+public class BitSetAdjacencyMatrixGraph {
+    private final static int VERTICES_NUMBER = 100;
+    private final long[] matrix;
+    private final int verticesNumber, words;
+    public int numberOfEdges = 0;
+
+
+    /**
+     * Default constructor
+     */
+    public BitSetAdjacencyMatrixGraph() {
+        this(VERTICES_NUMBER);
+    }
+
+    /**
+     * Constructor with a given number of vertices
+     *
+     * @param verticesNumber The starting vertices number of the Graph
+     * @throws IllegalArgumentException if the rows don't fit inside a single array (about 370k vertices)
+     */
+    public BitSetAdjacencyMatrixGraph(int verticesNumber) {
+        this.verticesNumber = verticesNumber;
+        this.words = (verticesNumber + 63) >>> 6;
+
+        // Every 'v * words + w' index below is an int, it cannot overflow as long as the whole matrix is an array
+        if ((long) verticesNumber * words > Integer.MAX_VALUE - 8)
+            throw new IllegalArgumentException("Too many vertices for a single bitset matrix: " + verticesNumber);
+
+        this.matrix = new long[verticesNumber * words];
+    }
+
+    /**
+     * Adds a new edge from the given 'from' vertex to the 'to' vertex
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return false if the given vertices outbounds the matrix size, true otherwise
+     */
+    public boolean addEdge(int from, int to) {
+        return this.addEdge(from, to, false);
+    }
+
+    /**
+     * Adds a new edge from the given 'from' vertex to the 'to' vertex, it also
+     * adds the reverse edge if the 'isUndirected' param is given true
+     *
+     * @param from         Starting vertex's edge
+     * @param to           Ending vertex's edge
+     * @param isUndirected Decides whether to add the reverse edge or not
+     * @return false if the given vertices outbounds the matrix size, true otherwise
+     */
+    public boolean addEdge(int from, int to, boolean isUndirected) {
+        if (!isVertex(from) || !isVertex(to) || from == to)
+            return false;
+
+        if (!hasEdge(from, to)) {
+            numberOfEdges++;
+            matrix[from * words + (to >>> 6)] |= 1L << to;
+        }
+
+        if (isUndirected && !hasEdge(to, from)) {
+            numberOfEdges++;
+            matrix[to * words + (from >>> 6)] |= 1L << from;
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes and existing edge from the graph
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return false if the given edge does not exist, true otherwise
+     */
+    public boolean removeEdge(int from, int to) {
+        if (hasEdge(from, to)) {
+            numberOfEdges--;
+            matrix[from * words + (to >>> 6)] &= ~(1L << to);
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns whether the edge from the 'from' vertex to the 'to' vertex exists or not
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     * @return boolean
+     */
+    public boolean hasEdge(int from, int to) {
+        if (!isVertex(from) || !isVertex(to))
+            return false;
+
+        // The shift only uses the lowest 6 bits of 'to', that is its position inside the word
+        return (matrix[from * words + (to >>> 6)] & (1L << to)) != 0;
+    }
+
+    /**
+     * Returns the number of outgoing edges of the given vertex
+     *
+     * @param v int
+     * @return int
+     */
+    public int outDegree(int v) {
+        int degree = 0;
+
+        for (int w = 0; w < words; w++) {
+            degree += Long.bitCount(matrix[v * words + w]);
+        }
+
+        return degree;
+    }
+
+    /**
+     * Returns the vertices reached by both the given vertices (AND of the two rows)
+     *
+     * @param a int
+     * @param b int
+     * @return The common neighbours in ascending order
+     */
+    public ArrayList<Integer> commonNeighbours(int a, int b) {
+        long[] row = new long[words];
+
+        for (int w = 0; w < words; w++) {
+            row[w] = matrix[a * words + w] & matrix[b * words + w];
+        }
+
+        return toList(row);
+    }
+
+    /**
+     * Returns the number of vertices reached by both the given vertices, without allocating any list
+     *
+     * @param a int
+     * @param b int
+     * @return int
+     */
+    public int commonNeighboursCount(int a, int b) {
+        int count = 0;
+
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(matrix[a * words + w] & matrix[b * words + w]);
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the vertices reached by at least one of the given vertices (OR of the two rows)
+     *
+     * @param a int
+     * @param b int
+     * @return The neighbours in ascending order
+     */
+    public ArrayList<Integer> neighboursUnion(int a, int b) {
+        long[] row = new long[words];
+
+        for (int w = 0; w < words; w++) {
+            row[w] = matrix[a * words + w] | matrix[b * words + w];
+        }
+
+        return toList(row);
+    }
+
+    /**
+     * Performs a depth first search on the graph starting from the given vertex
+     *
+     * @param v Starting vertex
+     * @return List of connected vertices in order of visit
+     */
+    public ArrayList<Integer> iterativeDfs(int v) {
+        if (!isVertex(v))
+            throw new IndexOutOfBoundsException();
+
+        ArrayList<Integer> res = new ArrayList<>();
+        long[] visited = new long[words];
+        int[] stack = new int[16];
+        int top = 0;
+        stack[top++] = v;
+
+        while (top > 0) {
+            v = stack[--top];
+
+            if ((visited[v >>> 6] & (1L << v)) == 0) {
+                visited[v >>> 6] |= 1L << v;
+                res.add(v);
+
+                for (int w = 0; w < words; w++) {
+                    // Only the neighbours not visited yet, 64 vertices checked at once
+                    long word = matrix[v * words + w] & ~visited[w];
+
+                    while (word != 0) {
+                        if (top == stack.length) stack = Arrays.copyOf(stack, top * 2);
+                        stack[top++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                        word &= word - 1; // Clears the lowest set bit
+                    }
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Performs a depth first search using recursion starting from the given vertex
+     *
+     * @param v Starting vertex
+     * @return List of connected vertices in order of visit
+     */
+    public ArrayList<Integer> recursiveDfs(int v) {
+        if (!isVertex(v))
+            throw new IndexOutOfBoundsException();
+
+        ArrayList<Integer> res = new ArrayList<>();
+        long[] visited = new long[words];
+
+        depthFirstSearch(v, visited, res);
+        return res;
+    }
+
+    /**
+     * Returns the string conversion of the graph, in the same format of the AdjacencyMatrixGraph
+     *
+     * @return String
+     */
+    public String print() {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < verticesNumber; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append('[');
+
+            // The row is read straight from its words, no dense matrix is allocated
+            for (int j = 0; j < verticesNumber; j++) {
+                boolean edge = (matrix[i * words + (j >>> 6)] & (1L << j)) != 0;
+                if (edge) System.out.println(i + " ---> " + j);
+
+                if (j > 0) sb.append(", ");
+                sb.append(edge ? '1' : '0');
+            }
+
+            sb.append(']');
+        }
+
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Internal method that performs the DFS in a recursive fashion
+     *
+     * @param v       Starting vertex
+     * @param visited Bitset of the already visited vertices
+     * @param res     Array containing the resulting visited vertices in order of visit
+     */
+    private void depthFirstSearch(int v, long[] visited, ArrayList<Integer> res) {
+        visited[v >>> 6] |= 1L << v;
+        res.add(v);
+
+        for (int w = 0; w < words; w++) {
+            long word = matrix[v * words + w] & ~visited[w];
+
+            while (word != 0) {
+                int next = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+
+                // The recursive calls may have visited it in the meanwhile
+                if ((visited[w] & (1L << next)) == 0)
+                    depthFirstSearch(next, visited, res);
+            }
+        }
+    }
+
+    /**
+     * Converts the given bitset row into the list of the vertices it contains
+     *
+     * @param row long[]
+     * @return ArrayList<Integer>
+     */
+    private ArrayList<Integer> toList(long[] row) {
+        ArrayList<Integer> res = new ArrayList<>();
+
+        for (int w = 0; w < row.length; w++) {
+            for (long word = row[w]; word != 0; word &= word - 1) {
+                res.add((w << 6) + Long.numberOfTrailingZeros(word));
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns true if the given index is a vertex of the graph
+     *
+     * @param v int
+     * @return boolean
+     */
+    private boolean isVertex(int v) {
+        return v >= 0 && v < verticesNumber;
+    }
+}
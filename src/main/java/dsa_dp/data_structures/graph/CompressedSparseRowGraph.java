@@ -0,0 +1,821 @@
+package dsa_dp.data_structures.graph;
+
+import dsa_dp.data_structures.graph.model.BreadthFirstTree;
+import dsa_dp.data_structures.graph.model.Vertex;
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable graph stored in the Compressed Sparse Row format.
+ * The outgoing edges of the vertex 'v' are stored in the 'targets' and 'weights' arrays
+ * between the indexes offsets[v] (inclusive) and offsets[v + 1] (exclusive),
+ * so every edge costs two ints and no object is allocated while visiting the neighbours of a vertex.
+ */
+public class CompressedSparseRowGraph {
+    // Direction-optimizing BFS tuning (Beamer et al.): switch to bottom-up when the frontier edges are more than
+    // 1/ALPHA of the unexplored edges, switch back to top-down when the frontier is less than 1/BETA of the vertices
+    private final static int ALPHA = 14, BETA = 24;
+    // Number of frontier vertices (or of graph vertices in a bottom-up step) handled by every parallel task
+    private final static int BFS_CHUNK_SIZE = 1024;
+    // Package-private so that the other graph algorithms can scan the edges without any copy
+    final int[] offsets, targets, weights;
+    private CompressedSparseRowGraph transposed;
+    // Index of the reversed copy of every edge inside the transposed graph, set by transpose()
+    int[] reversedEdges;
+    public final int numberOfEdges;
+
+
+    /**
+     * Constructor that copies the given AdjacencyListGraph, keeping the insertion order of every adjacency list
+     *
+     * @param graph The graph to compress
+     */
+    public CompressedSparseRowGraph(AdjacencyListGraph graph) {
+        int n = graph.verticesNumber();
+        offsets = new int[n + 1];
+
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + graph.getAdjacentVertices(v).size();
+        }
+
+        numberOfEdges = offsets[n];
+        targets = new int[numberOfEdges];
+        weights = new int[numberOfEdges];
+
+        for (int v = 0; v < n; v++) {
+            int e = offsets[v];
+
+            for (Vertex adj : graph.getAdjacentVertices(v)) {
+                targets[e] = adj.i;
+                weights[e] = adj.weight;
+                e++;
+            }
+        }
+    }
+
+    /**
+     * Constructor from an unweighted edge list, every edge gets a weight equal to zero
+     *
+     * @param verticesNumber The number of vertices of the graph
+     * @param from           Starting vertex of every edge
+     * @param to             Ending vertex of every edge
+     */
+    public CompressedSparseRowGraph(int verticesNumber, int[] from, int[] to) {
+        this(verticesNumber, from, to, new int[from.length]);
+    }
+
+    /**
+     * Constructor from a weighted edge list (from[i] ---> to[i] with weight[i]).
+     * The edges of every vertex keep the order in which they appear inside the given arrays
+     *
+     * @param verticesNumber The number of vertices of the graph
+     * @param from           Starting vertex of every edge
+     * @param to             Ending vertex of every edge
+     * @param weight         Weight of every edge
+     * @throws IndexOutOfBoundsException if the arrays have different lengths or contain an invalid vertex
+     */
+    public CompressedSparseRowGraph(int verticesNumber, int[] from, int[] to, int[] weight) {
+        if (from.length != to.length || from.length != weight.length)
+            throw new IndexOutOfBoundsException("The edge arrays must have the same length");
+
+        offsets = new int[verticesNumber + 1];
+        numberOfEdges = from.length;
+        targets = new int[numberOfEdges];
+        weights = new int[numberOfEdges];
+
+        // Counting the out degree of every vertex, shifted by one so that the prefix sum gives the offsets
+        for (int e = 0; e < numberOfEdges; e++) {
+            checkVertex(from[e], verticesNumber);
+            checkVertex(to[e], verticesNumber);
+            offsets[from[e] + 1]++;
+        }
+
+        for (int v = 0; v < verticesNumber; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        // Stable placement of the edges (a counting sort on the starting vertex)
+        int[] next = Arrays.copyOf(offsets, verticesNumber);
+
+        for (int e = 0; e < numberOfEdges; e++) {
+            int pos = next[from[e]]++;
+            targets[pos] = to[e];
+            weights[pos] = weight[e];
+        }
+    }
+
+    /**
+     * Internal constructor that wraps already built CSR arrays
+     *
+     * @param offsets int[]
+     * @param targets int[]
+     * @param weights int[]
+     */
+    private CompressedSparseRowGraph(int[] offsets, int[] targets, int[] weights) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.numberOfEdges = targets.length;
+    }
+
+    /**
+     * Returns the transposed graph (every edge reversed, weights included).
+     * It is built on the first call and then cached, the graph being immutable
+     *
+     * @return CompressedSparseRowGraph
+     */
+    public synchronized CompressedSparseRowGraph transpose() {
+        if (transposed == null) {
+            int n = verticesNumber();
+            int[] tOffsets = new int[n + 1];
+            int[] tTargets = new int[numberOfEdges];
+            int[] tWeights = new int[numberOfEdges];
+
+            for (int e = 0; e < numberOfEdges; e++) {
+                tOffsets[targets[e] + 1]++;
+            }
+
+            for (int v = 0; v < n; v++) {
+                tOffsets[v + 1] += tOffsets[v];
+            }
+
+            int[] next = Arrays.copyOf(tOffsets, n);
+            int[] positions = new int[numberOfEdges], tReversedEdges = new int[numberOfEdges];
+
+            for (int v = 0; v < n; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int pos = next[targets[e]]++;
+                    tTargets[pos] = v;
+                    tWeights[pos] = weights[e];
+                    positions[e] = pos;
+                    tReversedEdges[pos] = e;
+                }
+            }
+
+            transposed = new CompressedSparseRowGraph(tOffsets, tTargets, tWeights);
+            transposed.transposed = this;
+            transposed.reversedEdges = tReversedEdges;
+            reversedEdges = positions;
+        }
+
+        return transposed;
+    }
+
+    /**
+     * Returns the number of vertices of the graph
+     *
+     * @return int
+     */
+    public int verticesNumber() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns the number of outgoing edges of the given vertex
+     *
+     * @param v Index of the vertex
+     * @return int
+     */
+    public int outDegree(int v) {
+        return offsets[v + 1] - offsets[v];
+    }
+
+    /**
+     * Performs a Depth First Search on the graph starting from the given vertex
+     *
+     * @param v Starting vertex
+     * @return List of connected vertices in order of visit
+     */
+    public ArrayList<Integer> iterativeDfs(int v) {
+        checkVertex(v, verticesNumber());
+
+        ArrayList<Integer> res = new ArrayList<>();
+        boolean[] visited = new boolean[verticesNumber()];
+        // Every vertex pushes its neighbours only once, so the stack never holds more than E + 1 elements
+        int[] stack = new int[numberOfEdges + 1];
+        int top = 0;
+        stack[top++] = v;
+
+        while (top > 0) {
+            v = stack[--top];
+
+            if (!visited[v]) {
+                visited[v] = true;
+                res.add(v);
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    if (!visited[targets[e]]) stack[top++] = targets[e];
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Performs a Breadth First Search on the graph starting from the given vertex
+     *
+     * @param v Starting vertex
+     * @return List of connected vertices in order of visit
+     */
+    public ArrayList<Integer> iterativeBfs(int v) {
+        checkVertex(v, verticesNumber());
+
+        ArrayList<Integer> res = new ArrayList<>();
+        boolean[] visited = new boolean[verticesNumber()];
+        // Every vertex is enqueued at most once, so a plain array is enough to hold the queue
+        int[] queue = new int[verticesNumber()];
+        int head = 0, tail = 0;
+        queue[tail++] = v;
+        visited[v] = true;
+
+        while (head < tail) {
+            v = queue[head++];
+            res.add(v);
+
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                if (!visited[targets[e]]) {
+                    queue[tail++] = targets[e];
+                    visited[targets[e]] = true;
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Performs a level synchronous Breadth First Search using all the cores of the common ForkJoinPool.
+     * Every level is expanded in parallel, either top-down (the frontier vertices claim their unvisited neighbours
+     * with a CAS on the parent array) or bottom-up (every unvisited vertex looks for a parent among its incoming
+     * edges) when the frontier becomes a large part of the graph.
+     * Distances are the same of a sequential BFS, parents may differ but always belong to the previous level
+     *
+     * @param v Starting vertex
+     * @return The BFS tree containing the distance and the parent of every vertex
+     */
+    public BreadthFirstTree parallelBfs(int v) {
+        checkVertex(v, verticesNumber());
+
+        int n = verticesNumber();
+        int[] dist = new int[n];
+        AtomicIntegerArray parents = new AtomicIntegerArray(n);
+        int[] frontier = new int[]{v};
+        long frontierEdges = outDegree(v), unexploredEdges = numberOfEdges;
+        boolean bottomUp = false;
+
+        Arrays.fill(dist, -1);
+        IntStream.range(0, n).parallel().forEach(i -> parents.lazySet(i, -1));
+        // The source claims itself so that no other vertex can claim it, it gets reset at the end
+        parents.set(v, v);
+        dist[v] = 0;
+
+        for (int level = 1; frontier.length > 0; level++) {
+            unexploredEdges -= frontierEdges;
+
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA) bottomUp = true;
+            else if (bottomUp && frontier.length < n / BETA) bottomUp = false;
+
+            frontier = bottomUp
+                    ? bottomUpStep(level, dist, parents)
+                    : topDownStep(frontier, level, dist, parents);
+            frontierEdges = Arrays.stream(frontier).parallel().mapToLong(this::outDegree).sum();
+        }
+
+        int[] parent = new int[n];
+        IntStream.range(0, n).parallel().forEach(i -> parent[i] = parents.get(i));
+        parent[v] = -1;
+
+        return new BreadthFirstTree(v, dist, parent);
+    }
+
+    /**
+     * Computes and returns the shortest path (in number of edges) between the two given Vertices
+     *
+     * @param s Index of the Starting Vertex
+     * @param e Index of the Ending vertex
+     * @return An array containing the vertices that compose the shortest path from 's' to 'e' if the path is found,
+     * an empty array otherwise
+     */
+    public ArrayList<Integer> shortestPath(int s, int e) {
+        checkVertex(s, verticesNumber());
+        checkVertex(e, verticesNumber());
+
+        int[] parent = newParentArray();
+        boolean[] visited = new boolean[verticesNumber()];
+        int[] queue = new int[verticesNumber()];
+        int head = 0, tail = 0;
+        queue[tail++] = s;
+        visited[s] = true;
+
+        // Performing a BFS with early return in case the 'ending' vertex is found
+        while (head < tail) {
+            int v = queue[head++];
+
+            for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                int neighbour = targets[i];
+
+                if (!visited[neighbour]) {
+                    queue[tail++] = neighbour;
+                    visited[neighbour] = true;
+                    parent[neighbour] = v;
+
+                    if (neighbour == e) return reconstructPath(e, parent);
+                }
+            }
+        }
+
+        return new ArrayList<>();
+    }
+
+    /**
+     * Computes (if it exists) the shortest path from vertex 'from' to vertex 'to'.
+     * The search stops as soon as the 'to' vertex gets settled
+     *
+     * @param from starting vertex
+     * @param to   ending vertex
+     * @return An array containing the vertices that compose the shortest path from 'from' to 'to' if the path is found,
+     * an empty array otherwise
+     */
+    public ArrayList<Integer> djikstraShortestPath(int from, int to) {
+        checkVertex(to, verticesNumber());
+
+        int[] parent = newParentArray();
+        int[] dist = runDjikstra(from, to, parent);
+
+        return from != to && dist[to] != Integer.MAX_VALUE ? reconstructPath(to, parent) : new ArrayList<>();
+    }
+
+    /**
+     * Dijkstra's algorithm
+     *
+     * @param from index of the starting vertex
+     * @return An array of distances from the given vertex to all the other graph vertices,
+     * res[vertexI] = (distance from starting vertex)
+     */
+    public int[] djikstra(int from) {
+        return runDjikstra(from, -1, null);
+    }
+
+    /**
+     * Johnson's algorithm: computes the shortest distances between every pair of vertices, negative weights included.
+     * Bellman-Ford computes a potential h(v) for every vertex, then every edge (u, v) is re-weighted as
+     * w + h(u) - h(v) >= 0 so that a Dijkstra can be run from every vertex. The Dijkstra runs are independent
+     * and are spread on the common ForkJoinPool.
+     * O(V * E * log V), much faster than Floyd-Warshall on sparse graphs
+     *
+     * @return res[from][to] = (distance between the two vertices), Integer.MAX_VALUE if 'to' cannot be reached
+     * @throws IllegalStateException if the graph contains a negative cycle
+     */
+    public int[][] johnson() {
+        int n = verticesNumber();
+        int[] h = bellmanFordPotentials();
+        int[][] res = new int[n][];
+
+        IntStream.range(0, n).parallel().forEach(from -> {
+            int[] dist = new int[n];
+            IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(n);
+            boolean[] visited = new boolean[n];
+
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            queue.insert(from, 0);
+            dist[from] = 0;
+
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                visited[v] = true;
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int adj = targets[e];
+                    if (visited[adj]) continue;
+                    int newDist = dist[v] + weights[e] + h[v] - h[adj];
+
+                    if (newDist < dist[adj]) {
+                        dist[adj] = newDist;
+
+                        if (!queue.contains(adj)) queue.insert(adj, newDist);
+                        else queue.decreaseKey(adj, newDist);
+                    }
+                }
+            }
+
+            // Undoing the re-weighting
+            for (int v = 0; v < n; v++) {
+                if (dist[v] != Integer.MAX_VALUE) dist[v] = dist[v] - h[from] + h[v];
+            }
+
+            res[from] = dist;
+        });
+
+        return res;
+    }
+
+    /**
+     * Tarjan's algorithm for the strongly connected components, made iterative with an explicit call stack
+     * (the vertex and the next edge to scan of every frame) so that deep graphs cannot overflow the thread stack.
+     * Components are numbered in topological order: every edge between two different components goes from
+     * the lower component to the higher one
+     * O(V + E)
+     *
+     * @return res[vertexI] = (component of the vertex), the components being numbered from 0
+     */
+    public int[] stronglyConnectedComponents() {
+        int n = verticesNumber();
+        int[] component = new int[n];
+        int[] index = new int[n];
+        int[] low = new int[n];
+        int[] stack = new int[n];
+        int[] callVertex = new int[n];
+        int[] callEdge = new int[n];
+        int top = 0, calls = 0, counter = 0, count = 0;
+
+        Arrays.fill(component, -1);
+        Arrays.fill(index, -1);
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) continue;
+
+            index[root] = low[root] = counter++;
+            stack[top++] = root;
+            callVertex[calls] = root;
+            callEdge[calls++] = offsets[root];
+
+            while (calls > 0) {
+                int v = callVertex[calls - 1];
+
+                if (callEdge[calls - 1] < offsets[v + 1]) {
+                    int w = targets[callEdge[calls - 1]++];
+
+                    if (index[w] == -1) {
+                        index[w] = low[w] = counter++;
+                        stack[top++] = w;
+                        callVertex[calls] = w;
+                        callEdge[calls++] = offsets[w];
+                    } else if (component[w] == -1) {
+                        // Visited but not assigned yet, so 'w' is still on the stack
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                } else {
+                    calls--;
+
+                    if (low[v] == index[v]) {
+                        int w;
+
+                        do {
+                            w = stack[--top];
+                            component[w] = count;
+                        } while (w != v);
+
+                        count++;
+                    }
+
+                    if (calls > 0) {
+                        int parent = callVertex[calls - 1];
+                        low[parent] = Math.min(low[parent], low[v]);
+                    }
+                }
+            }
+        }
+
+        // Tarjan completes the components in reverse topological order
+        for (int v = 0; v < n; v++) {
+            component[v] = count - 1 - component[v];
+        }
+
+        return component;
+    }
+
+    /**
+     * Builds the condensation of the graph: every strongly connected component becomes a single vertex
+     * (the vertex 'c' being the component 'c' of stronglyConnectedComponents()) and the edges between two
+     * components are merged into a single edge, keeping the lowest weight.
+     * The resulting graph is a DAG
+     *
+     * @return CompressedSparseRowGraph
+     */
+    public CompressedSparseRowGraph condensation() {
+        int n = verticesNumber();
+        int[] component = stronglyConnectedComponents();
+        int count = 0;
+
+        for (int c : component) {
+            count = Math.max(count, c + 1);
+        }
+
+        // Grouping the vertices by component (counting sort)
+        int[] start = new int[count + 1];
+        int[] members = new int[n];
+
+        for (int c : component) {
+            start[c + 1]++;
+        }
+
+        for (int c = 0; c < count; c++) {
+            start[c + 1] += start[c];
+        }
+
+        int[] next = Arrays.copyOf(start, count);
+
+        for (int v = 0; v < n; v++) {
+            members[next[component[v]]++] = v;
+        }
+
+        int[] cOffsets = new int[count + 1];
+        int[] cTargets = new int[numberOfEdges];
+        int[] cWeights = new int[numberOfEdges];
+        // lastSource[c] is the last component having an edge towards 'c', position[c] is where that edge was stored
+        int[] lastSource = new int[count];
+        int[] position = new int[count];
+        int size = 0;
+
+        Arrays.fill(lastSource, -1);
+
+        for (int c = 0; c < count; c++) {
+            for (int i = start[c]; i < start[c + 1]; i++) {
+                int v = members[i];
+
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    int target = component[targets[e]];
+                    if (target == c) continue;
+
+                    if (lastSource[target] != c) {
+                        lastSource[target] = c;
+                        position[target] = size;
+                        cTargets[size] = target;
+                        cWeights[size++] = weights[e];
+                    } else {
+                        cWeights[position[target]] = Math.min(cWeights[position[target]], weights[e]);
+                    }
+                }
+            }
+
+            cOffsets[c + 1] = size;
+        }
+
+        return new CompressedSparseRowGraph(cOffsets, Arrays.copyOf(cTargets, size), Arrays.copyOf(cWeights, size));
+    }
+
+    /**
+     * Kahn's topological sort: the vertices without incoming edges are emitted first, removing their edges
+     * makes new vertices ready. The in-degrees are computed in parallel on the common ForkJoinPool
+     * O(V + E)
+     *
+     * @return The vertices in topological order (every edge goes from a vertex to a following one)
+     * @throws IllegalStateException if the graph contains a cycle
+     */
+    public int[] topologicalSort() {
+        int n = verticesNumber();
+        AtomicIntegerArray counters = new AtomicIntegerArray(n);
+
+        IntStream.range(0, numberOfEdges).parallel().forEach(e -> counters.incrementAndGet(targets[e]));
+
+        int[] inDegree = new int[n];
+        int[] queue = new int[n];
+        int head = 0, tail = 0;
+
+        for (int v = 0; v < n; v++) {
+            inDegree[v] = counters.get(v);
+            if (inDegree[v] == 0) queue[tail++] = v;
+        }
+
+        while (head < tail) {
+            int v = queue[head++];
+
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                if (--inDegree[targets[e]] == 0) queue[tail++] = targets[e];
+            }
+        }
+
+        if (tail < n) throw new IllegalStateException("The graph contains a cycle");
+
+        return queue;
+    }
+
+    /**
+     * Bellman-Ford from a virtual vertex having a zero weight edge towards every vertex,
+     * the resulting distances (all <= 0) are the potentials used by the Johnson's algorithm
+     *
+     * @return int[]
+     * @throws IllegalStateException if the graph contains a negative cycle
+     */
+    private int[] bellmanFordPotentials() {
+        int n = verticesNumber();
+        int[] h = new int[n];
+
+        for (int round = 0; round <= n; round++) {
+            boolean changed = false;
+
+            for (int v = 0; v < n; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    if (h[v] + weights[e] < h[targets[e]]) {
+                        h[targets[e]] = h[v] + weights[e];
+                        changed = true;
+                    }
+                }
+            }
+
+            if (!changed) return h;
+        }
+
+        // Distances still decreasing after V rounds (V + 1 vertices counting the virtual one)
+        throw new IllegalStateException("The graph contains a negative cycle");
+    }
+
+    /**
+     * Eager implementation of the Dijkstra's algorithm driven by an int indexed priority queue,
+     * no object is allocated while relaxing the edges
+     *
+     * @param from   index of the starting vertex
+     * @param target index of the vertex that stops the search once settled, -1 to explore the whole graph
+     * @param parent Optional array that gets populated with the parent of every reached vertex
+     * @return The distances array, only the distances of the settled vertices are final
+     */
+    private int[] runDjikstra(int from, int target, int[] parent) {
+        checkVertex(from, verticesNumber());
+
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(verticesNumber());
+        boolean[] visited = new boolean[verticesNumber()];
+        int[] dist = new int[verticesNumber()];
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        queue.insert(from, 0);
+        dist[from] = 0;
+
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            visited[v] = true;
+
+            if (v == target) break;
+
+            for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                int adj = targets[e];
+                if (visited[adj]) continue;
+                int newDist = dist[v] + weights[e];
+
+                if (newDist < dist[adj]) {
+                    dist[adj] = newDist;
+
+                    if (!queue.contains(adj)) queue.insert(adj, newDist);
+                    else queue.decreaseKey(adj, newDist);
+
+                    if (parent != null) parent[adj] = v;
+                }
+            }
+        }
+
+        return dist;
+    }
+
+    /**
+     * Expands the given frontier in parallel: every vertex of the frontier claims its unvisited neighbours,
+     * the CAS on the parent array guarantees that every vertex is claimed only once
+     *
+     * @param frontier The vertices at distance (level - 1)
+     * @param level    The distance of the vertices discovered by this step
+     * @param dist     The distances array
+     * @param parents  The parents array, -1 for unvisited vertices
+     * @return The next frontier
+     */
+    private int[] topDownStep(int[] frontier, int level, int[] dist, AtomicIntegerArray parents) {
+        int chunks = (frontier.length + BFS_CHUNK_SIZE - 1) / BFS_CHUNK_SIZE;
+
+        int[][] discovered = IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            int[] buffer = new int[16];
+            int size = 0;
+
+            for (int i = c * BFS_CHUNK_SIZE; i < Math.min(frontier.length, (c + 1) * BFS_CHUNK_SIZE); i++) {
+                int u = frontier[i];
+
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int w = targets[e];
+
+                    // The plain read filters most of the visited vertices before paying for the CAS
+                    if (dist[w] == -1 && parents.compareAndSet(w, -1, u)) {
+                        dist[w] = level;
+                        if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+                        buffer[size++] = w;
+                    }
+                }
+            }
+
+            return Arrays.copyOf(buffer, size);
+        }).toArray(int[][]::new);
+
+        return concat(discovered);
+    }
+
+    /**
+     * Every unvisited vertex scans its incoming edges looking for a parent in the current frontier
+     * (the vertices at distance level - 1) and stops at the first one found.
+     * Each task only writes the vertices of its own range, so no CAS is needed
+     *
+     * @param level   The distance of the vertices discovered by this step
+     * @param dist    The distances array
+     * @param parents The parents array, -1 for unvisited vertices
+     * @return The next frontier
+     */
+    private int[] bottomUpStep(int level, int[] dist, AtomicIntegerArray parents) {
+        CompressedSparseRowGraph incoming = transpose();
+        int n = verticesNumber();
+        int chunks = (n + BFS_CHUNK_SIZE - 1) / BFS_CHUNK_SIZE;
+
+        int[][] discovered = IntStream.range(0, chunks).parallel().mapToObj(c -> {
+            int[] buffer = new int[16];
+            int size = 0;
+
+            for (int w = c * BFS_CHUNK_SIZE; w < Math.min(n, (c + 1) * BFS_CHUNK_SIZE); w++) {
+                if (dist[w] != -1) continue;
+
+                for (int e = incoming.offsets[w]; e < incoming.offsets[w + 1]; e++) {
+                    int u = incoming.targets[e];
+
+                    // Vertices discovered during this step have distance 'level', so they are not mistaken as parents
+                    if (dist[u] == level - 1) {
+                        parents.set(w, u);
+                        dist[w] = level;
+                        if (size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+                        buffer[size++] = w;
+                        break;
+                    }
+                }
+            }
+
+            return Arrays.copyOf(buffer, size);
+        }).toArray(int[][]::new);
+
+        return concat(discovered);
+    }
+
+    /**
+     * Concatenates the given arrays into a single one
+     *
+     * @param arrays int[][]
+     * @return int[]
+     */
+    private static int[] concat(int[][] arrays) {
+        int length = 0;
+
+        for (int[] array : arrays) {
+            length += array.length;
+        }
+
+        int[] res = new int[length];
+        int pos = 0;
+
+        for (int[] array : arrays) {
+            System.arraycopy(array, 0, res, pos, array.length);
+            pos += array.length;
+        }
+
+        return res;
+    }
+
+    /**
+     * Returns a new parent array filled with -1 (no parent) values
+     *
+     * @return int[]
+     */
+    private int[] newParentArray() {
+        int[] parent = new int[verticesNumber()];
+        Arrays.fill(parent, -1);
+
+        return parent;
+    }
+
+    /**
+     * Walks the given parent array backwards starting from the given vertex and returns the path in the right order
+     *
+     * @param at     The vertex from which it starts to iterate the path in reverse
+     * @param parent The array containing the parent vertices
+     * @return path The list containing all the path vertices
+     */
+    private ArrayList<Integer> reconstructPath(int at, int[] parent) {
+        int length = 1;
+
+        for (int v = at; parent[v] != -1; v = parent[v]) {
+            length++;
+        }
+
+        Integer[] path = new Integer[length];
+
+        for (int v = at; v != -1; v = parent[v]) {
+            path[--length] = v;
+        }
+
+        return new ArrayList<>(Arrays.asList(path));
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the given vertex does not belong to a graph of size 'n'
+     *
+     * @param v int
+     * @param n int
+     */
+    private static void checkVertex(int v, int n) {
+        if (v < 0 || v >= n) throw new IndexOutOfBoundsException("Vertex " + v + " is out of range");
+    }
+}
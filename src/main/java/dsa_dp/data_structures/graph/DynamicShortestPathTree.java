@@ -0,0 +1,206 @@
+package dsa_dp.data_structures.graph;
+
+import dsa_dp.data_structures.graph.model.Vertex;
+import dsa_dp.data_structures.graph.observer.EdgeObserver;
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Single source shortest path tree that stays up to date while the edges of the observed graph change.
+ * Instead of running Dijkstra from scratch after every change, only the part of the tree affected by the change
+ * is repaired (Ramalingam-Reps):
+ * - an edge that gets added or cheaper can only lower distances, a Dijkstra is started from its ending vertex
+ * and it stops as soon as no distance improves anymore
+ * - an edge that gets removed or more expensive only matters if it belongs to the tree, in that case the subtree
+ * hanging below it is detached, every detached vertex gets its best distance through the incoming edges from the
+ * rest of the tree and a Dijkstra restricted to the detached vertices completes the repair
+ * Edge weights must not be negative.
+ */
+public class DynamicShortestPathTree implements EdgeObserver {
+    private final AdjacencyListGraph graph;
+    private final int[] dist, parent;
+    // Buffers reused by every repair, so that a small change costs no O(V) allocation
+    private final IntIndexedPriorityQueue queue;
+    private final boolean[] affected;
+    private final int[] affectedStack;
+
+
+    /**
+     * Computes the shortest path tree of the given source vertex and starts observing the graph
+     *
+     * @param graph  The graph to observe
+     * @param source Index of the source vertex
+     */
+    public DynamicShortestPathTree(AdjacencyListGraph graph, int source) {
+        int n = graph.verticesNumber();
+        if (source < 0 || source >= n) throw new IndexOutOfBoundsException();
+
+        this.graph = graph;
+        this.dist = new int[n];
+        this.parent = new int[n];
+        this.queue = new IntIndexedPriorityQueue(n);
+        this.affected = new boolean[n];
+        this.affectedStack = new int[n];
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        Arrays.fill(parent, -1);
+        dist[source] = 0;
+        queue.insert(source, 0);
+        propagate();
+
+        graph.registerObserver(this);
+    }
+
+    /**
+     * Returns the current distance of the given vertex from the source, Integer.MAX_VALUE if it cannot be reached
+     *
+     * @param v int
+     * @return int
+     */
+    public int distance(int v) {
+        return dist[v];
+    }
+
+    /**
+     * Returns a copy of the current distances, in the same format of AdjacencyListGraph.djikstra()
+     *
+     * @return int[]
+     */
+    public int[] distances() {
+        return Arrays.copyOf(dist, dist.length);
+    }
+
+    /**
+     * Returns the current shortest path from the source to the given vertex
+     *
+     * @param v Ending vertex
+     * @return The vertices that compose the path, an empty list if the vertex cannot be reached
+     */
+    public ArrayList<Integer> pathTo(int v) {
+        ArrayList<Integer> path = new ArrayList<>();
+        if (dist[v] == Integer.MAX_VALUE) return path;
+
+        for (int at = v; at != -1; at = parent[at]) {
+            path.add(at);
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Stops observing the graph, the tree won't be updated anymore
+     */
+    public void detach() {
+        graph.unregisterObserver(this);
+    }
+
+    @Override
+    public void edgeAdded(int from, int to, int weight) {
+        edgeGotCheaper(from, to, weight);
+    }
+
+    @Override
+    public void edgeRemoved(int from, int to, int weight) {
+        edgeGotMoreExpensive(from, to);
+    }
+
+    @Override
+    public void edgeWeightChanged(int from, int to, int oldWeight, int newWeight) {
+        if (newWeight < oldWeight) edgeGotCheaper(from, to, newWeight);
+        else if (newWeight > oldWeight) edgeGotMoreExpensive(from, to);
+    }
+
+    /**
+     * If the edge improves the distance of its ending vertex, the improvement is propagated with a Dijkstra
+     * that only visits the vertices whose distance decreases
+     *
+     * @param from   Starting vertex's edge
+     * @param to     Ending vertex's edge
+     * @param weight Edge weight
+     */
+    private void edgeGotCheaper(int from, int to, int weight) {
+        if (dist[from] == Integer.MAX_VALUE || dist[from] + weight >= dist[to]) return;
+
+        dist[to] = dist[from] + weight;
+        parent[to] = from;
+        queue.insert(to, dist[to]);
+        propagate();
+    }
+
+    /**
+     * If the edge belongs to the tree, the subtree below it is detached and reconnected to the rest of the tree
+     *
+     * @param from Starting vertex's edge
+     * @param to   Ending vertex's edge
+     */
+    private void edgeGotMoreExpensive(int from, int to) {
+        if (parent[to] != from) return;
+
+        // Collecting the subtree rooted in 'to', its children being the adjacent vertices having it as parent
+        int size = 0;
+        affectedStack[size++] = to;
+        affected[to] = true;
+
+        for (int i = 0; i < size; i++) {
+            for (Vertex adj : graph.getAdjacentVertices(affectedStack[i])) {
+                if (!affected[adj.i] && parent[adj.i] == affectedStack[i]) {
+                    affected[adj.i] = true;
+                    affectedStack[size++] = adj.i;
+                }
+            }
+        }
+
+        for (int i = 0; i < size; i++) {
+            dist[affectedStack[i]] = Integer.MAX_VALUE;
+            parent[affectedStack[i]] = -1;
+        }
+
+        // Best distance of every detached vertex through the edges coming from the vertices still in the tree
+        for (int i = 0; i < size; i++) {
+            int v = affectedStack[i];
+
+            for (Vertex in : graph.getIncomingVertices(v)) {
+                if (affected[in.i] || dist[in.i] == Integer.MAX_VALUE) continue;
+
+                if (dist[in.i] + in.weight < dist[v]) {
+                    dist[v] = dist[in.i] + in.weight;
+                    parent[v] = in.i;
+                }
+            }
+
+            if (dist[v] != Integer.MAX_VALUE) queue.insert(v, dist[v]);
+        }
+
+        for (int i = 0; i < size; i++) {
+            affected[affectedStack[i]] = false;
+        }
+
+        propagate();
+    }
+
+    /**
+     * Dijkstra's algorithm starting from the vertices currently inside the queue,
+     * it relaxes the outgoing edges of every polled vertex until the queue is empty
+     */
+    private void propagate() {
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+
+            for (Vertex adj : graph.getAdjacentVertices(v)) {
+                int newDist = dist[v] + adj.weight;
+
+                if (newDist < dist[adj.i]) {
+                    dist[adj.i] = newDist;
+                    parent[adj.i] = v;
+
+                    if (!queue.contains(adj.i)) queue.insert(adj.i, newDist);
+                    else queue.decreaseKey(adj.i, newDist);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package dsa_dp.data_structures.graph;
+
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Read-only graph stored on disk in the Compressed Sparse Row format and memory mapped,
+ * the traversals read the edges straight from the OS page cache so opening a graph costs no parsing and the
+ * graph size is only bounded by the disk (only the per-vertex arrays of the traversals live on the heap).
+ * File layout, little endian:
+ * - header (32 bytes): magic number, format version, vertices number, unused int, edges number (long), unused long
+ * - offsets: (V + 1) longs, the edges of the vertex 'v' are the ones between offsets[v] and offsets[v + 1]
+ * - targets: E ints
+ * - weights: E ints
+ * A single MappedByteBuffer cannot exceed 2GB, so the file is mapped in segments of equal size (a power of two).
+ * The sections are aligned to their element size, so a value never spans two segments.
+ */
+public class MappedGraph {
+    private final static int MAGIC = 0x43535247; // "CSRG"
+    private final static int VERSION = 1;
+    private final static int HEADER_SIZE = 32;
+    private final static int SEGMENT_SHIFT = 30; // 1GB segments
+    private final static int WRITE_BUFFER_SIZE = 1 << 20;
+    private final ByteBuffer[] segments;
+    private final int segmentShift;
+    private final long segmentMask, targetsPosition, weightsPosition;
+    private final int verticesNumber;
+    public final long numberOfEdges;
+
+
+    /**
+     * Constructor that maps the given graph file
+     *
+     * @param path The graph file, written with MappedGraph.write()
+     * @throws IOException if the file cannot be read or it is not a graph file
+     */
+    public MappedGraph(Path path) throws IOException {
+        this(path, SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructor that maps the given graph file with segments of a given size
+     *
+     * @param path         The graph file, written with MappedGraph.write()
+     * @param segmentShift The size of every mapped segment is 2^segmentShift bytes, between 2^3 and 2^30
+     * @throws IOException if the file cannot be read or it is not a graph file
+     */
+    public MappedGraph(Path path, int segmentShift) throws IOException {
+        if (segmentShift < 3 || segmentShift > SEGMENT_SHIFT)
+            throw new IllegalArgumentException("Invalid segment shift " + segmentShift);
+
+        this.segmentShift = segmentShift;
+        this.segmentMask = (1L << segmentShift) - 1;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE) throw new IOException("Not a graph file: " + path);
+
+            // The mappings stay valid after the channel gets closed
+            segments = new ByteBuffer[(int) ((size + segmentMask) >>> segmentShift)];
+
+            for (int i = 0; i < segments.length; i++) {
+                long position = (long) i << segmentShift;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(segmentMask + 1, size - position))
+                        .order(ByteOrder.LITTLE_ENDIAN);
+            }
+
+            if (getInt(0) != MAGIC) throw new IOException("Not a graph file: " + path);
+            if (getInt(4) != VERSION) throw new IOException("Unsupported graph file version " + getInt(4));
+
+            verticesNumber = getInt(8);
+            numberOfEdges = getLong(16);
+            targetsPosition = HEADER_SIZE + 8L * (verticesNumber + 1);
+            weightsPosition = targetsPosition + 4L * numberOfEdges;
+
+            if (verticesNumber < 0 || numberOfEdges < 0 || weightsPosition + 4L * numberOfEdges != size)
+                throw new IOException("Corrupted graph file: " + path);
+        }
+    }
+
+    /**
+     * Writes the given graph to a file in the MappedGraph format
+     *
+     * @param graph AdjacencyListGraph
+     * @param path  The file to write, replaced if it already exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(AdjacencyListGraph graph, Path path) throws IOException {
+        write(new CompressedSparseRowGraph(graph), path);
+    }
+
+    /**
+     * Writes the given graph to a file in the MappedGraph format
+     *
+     * @param graph CompressedSparseRowGraph
+     * @param path  The file to write, replaced if it already exists
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(CompressedSparseRowGraph graph, Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(graph.verticesNumber()).putInt(0);
+            buffer.putLong(graph.numberOfEdges).putLong(0);
+
+            for (int offset : graph.offsets) {
+                if (buffer.remaining() < 8) flush(buffer, channel);
+                buffer.putLong(offset);
+            }
+
+            for (int[] section : new int[][]{graph.targets, graph.weights}) {
+                for (int value : section) {
+                    if (buffer.remaining() < 4) flush(buffer, channel);
+                    buffer.putInt(value);
+                }
+            }
+
+            flush(buffer, channel);
+        }
+    }
+
+    /**
+     * Returns the number of vertices of the graph
+     *
+     * @return int
+     */
+    public int verticesNumber() {
+        return verticesNumber;
+    }
+
+    /**
+     * Returns the number of outgoing edges of the given vertex
+     *
+     * @param v Index of the vertex
+     * @return int
+     */
+    public int outDegree(int v) {
+        checkVertex(v);
+        return (int) (offset(v + 1) - offset(v));
+    }
+
+    /**
+     * Performs a Breadth First Search on the graph starting from the given vertex
+     *
+     * @param v Starting vertex
+     * @return List of connected vertices in order of visit
+     */
+    public ArrayList<Integer> iterativeBfs(int v) {
+        checkVertex(v);
+
+        ArrayList<Integer> res = new ArrayList<>();
+        boolean[] visited = new boolean[verticesNumber];
+        int[] queue = new int[verticesNumber];
+        int head = 0, tail = 0;
+        queue[tail++] = v;
+        visited[v] = true;
+
+        while (head < tail) {
+            v = queue[head++];
+            res.add(v);
+
+            for (long e = offset(v), end = offset(v + 1); e < end; e++) {
+                int adj = target(e);
+
+                if (!visited[adj]) {
+                    queue[tail++] = adj;
+                    visited[adj] = true;
+                }
+            }
+        }
+
+        return res;
+    }
+
+    /**
+     * Dijkstra's algorithm
+     *
+     * @param from index of the starting vertex
+     * @return An array of distances from the given vertex to all the other graph vertices,
+     * res[vertexI] = (distance from starting vertex)
+     */
+    public int[] djikstra(int from) {
+        checkVertex(from);
+
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(verticesNumber);
+        boolean[] visited = new boolean[verticesNumber];
+        int[] dist = new int[verticesNumber];
+
+        Arrays.fill(dist, Integer.MAX_VALUE);
+        queue.insert(from, 0);
+        dist[from] = 0;
+
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            visited[v] = true;
+
+            for (long e = offset(v), end = offset(v + 1); e < end; e++) {
+                int adj = target(e);
+                if (visited[adj]) continue;
+                int newDist = dist[v] + weight(e);
+
+                if (newDist < dist[adj]) {
+                    dist[adj] = newDist;
+
+                    if (!queue.contains(adj)) queue.insert(adj, newDist);
+                    else queue.decreaseKey(adj, newDist);
+                }
+            }
+        }
+
+        return dist;
+    }
+
+    /**
+     * Loads the whole graph on the heap
+     *
+     * @return CompressedSparseRowGraph
+     * @throws IllegalStateException if the graph has more edges than an in-memory graph can hold
+     */
+    public CompressedSparseRowGraph load() {
+        if (numberOfEdges > Integer.MAX_VALUE - 8)
+            throw new IllegalStateException("Too many edges to load the graph on the heap: " + numberOfEdges);
+
+        int m = (int) numberOfEdges;
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+
+        for (int v = 0; v < verticesNumber; v++) {
+            for (long e = offset(v), end = offset(v + 1); e < end; e++) {
+                from[(int) e] = v;
+                to[(int) e] = target(e);
+                weight[(int) e] = weight(e);
+            }
+        }
+
+        return new CompressedSparseRowGraph(verticesNumber, from, to, weight);
+    }
+
+    /**
+     * Returns the index of the first edge of the given vertex
+     *
+     * @param v int
+     * @return long
+     */
+    private long offset(int v) {
+        return getLong(HEADER_SIZE + 8L * v);
+    }
+
+    /**
+     * Returns the ending vertex of the given edge
+     *
+     * @param e long
+     * @return int
+     */
+    private int target(long e) {
+        return getInt(targetsPosition + 4 * e);
+    }
+
+    /**
+     * Returns the weight of the given edge
+     *
+     * @param e long
+     * @return int
+     */
+    private int weight(long e) {
+        return getInt(weightsPosition + 4 * e);
+    }
+
+    /**
+     * Reads the int at the given file position
+     *
+     * @param position long
+     * @return int
+     */
+    private int getInt(long position) {
+        return segments[(int) (position >>> segmentShift)].getInt((int) (position & segmentMask));
+    }
+
+    /**
+     * Reads the long at the given file position
+     *
+     * @param position long
+     * @return long
+     */
+    private long getLong(long position) {
+        return segments[(int) (position >>> segmentShift)].getLong((int) (position & segmentMask));
+    }
+
+    /**
+     * Writes the content of the buffer to the channel and clears it
+     *
+     * @param buffer  ByteBuffer
+     * @param channel FileChannel
+     * @throws IOException if the channel cannot be written
+     */
+    private static void flush(ByteBuffer buffer, FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the given vertex does not belong to the graph
+     *
+     * @param v int
+     */
+    private void checkVertex(int v) {
+        if (v < 0 || v >= verticesNumber) throw new IndexOutOfBoundsException("Vertex " + v + " is out of range");
+    }
+}
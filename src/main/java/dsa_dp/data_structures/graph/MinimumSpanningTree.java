@@ -0,0 +1,227 @@
+package dsa_dp.data_structures.graph;
+
+import dsa_dp.data_structures.disjoint_set.DisjointSet;
+import dsa_dp.data_structures.graph.model.Edge;
+import dsa_dp.data_structures.graph.model.SpanningTree;
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * Minimum spanning tree algorithms. The edges of the graph are considered undirected, when the graph
+ * is not connected the result is a minimum spanning forest (one tree for every connected component).
+ * Kruskal and Boruvka compare the edges by weight and then by position, so that every edge has a distinct rank
+ * and the two always pick the same tree, even when weights are repeated (Prim can pick a different tree of the same
+ * total weight).
+ */
+public class MinimumSpanningTree {
+    private final static long NO_EDGE = Long.MAX_VALUE;
+    private final CompressedSparseRowGraph graph;
+    // Starting vertex of every CSR edge, the CSR format only stores the ending one
+    private final int[] sources;
+
+
+    /**
+     * Constructor with a given AdjacencyListGraph, that gets compressed first
+     *
+     * @param graph AdjacencyListGraph
+     */
+    public MinimumSpanningTree(AdjacencyListGraph graph) {
+        this(new CompressedSparseRowGraph(graph));
+    }
+
+    /**
+     * Constructor with a given CompressedSparseRowGraph
+     *
+     * @param graph CompressedSparseRowGraph
+     */
+    public MinimumSpanningTree(CompressedSparseRowGraph graph) {
+        this.graph = graph;
+        this.sources = new int[graph.numberOfEdges];
+
+        for (int v = 0; v < graph.verticesNumber(); v++) {
+            Arrays.fill(sources, graph.offsets[v], graph.offsets[v + 1], v);
+        }
+    }
+
+    /**
+     * Kruskal's algorithm: edges are sorted by weight (in parallel) and added one after the other,
+     * skipping the ones that would close a cycle, checked with a DisjointSet
+     * O(E log E)
+     *
+     * @return SpanningTree
+     */
+    public SpanningTree kruskal() {
+        int m = graph.numberOfEdges;
+        DisjointSet set = new DisjointSet(graph.verticesNumber());
+        long[] ranks = new long[m];
+
+        for (int e = 0; e < m; e++) {
+            ranks[e] = rank(e);
+        }
+
+        Arrays.parallelSort(ranks);
+
+        ArrayList<Edge> edges = new ArrayList<>();
+        long totalWeight = 0;
+
+        for (int i = 0; i < m && edges.size() < graph.verticesNumber() - 1; i++) {
+            int e = (int) ranks[i]; // The lower 32 bits hold the edge index
+
+            if (!set.areUnified(sources[e], graph.targets[e])) {
+                set.union(sources[e], graph.targets[e]);
+                edges.add(toEdge(e));
+                totalWeight += graph.weights[e];
+            }
+        }
+
+        return new SpanningTree(totalWeight, edges);
+    }
+
+    /**
+     * Eager Prim's algorithm: the tree grows from a vertex, every vertex outside of the tree is kept inside
+     * an indexed priority queue with the weight of its cheapest edge towards the tree, lowered with decrease-key
+     * O(E log V)
+     *
+     * @return SpanningTree
+     */
+    public SpanningTree prim() {
+        int n = graph.verticesNumber();
+        CompressedSparseRowGraph incoming = graph.transpose();
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(n);
+        boolean[] inTree = new boolean[n];
+        long[] bestRank = new long[n];
+        int[] bestEdge = new int[n];
+        ArrayList<Edge> edges = new ArrayList<>();
+        long totalWeight = 0;
+
+        Arrays.fill(bestRank, NO_EDGE);
+
+        for (int root = 0; root < n; root++) {
+            if (inTree[root]) continue;
+            bestEdge[root] = -1;
+            queue.insert(root, 0);
+
+            while (!queue.isEmpty()) {
+                int v = queue.poll();
+                inTree[v] = true;
+
+                if (bestEdge[v] != -1) {
+                    edges.add(toEdge(bestEdge[v]));
+                    totalWeight += graph.weights[bestEdge[v]];
+                }
+
+                // Outgoing and incoming edges, the graph being considered undirected
+                for (int e = graph.offsets[v]; e < graph.offsets[v + 1]; e++) {
+                    visit(graph.targets[e], e, inTree, bestRank, bestEdge, queue);
+                }
+
+                // The transposed graph knows the original index of every reversed edge, no search needed
+                for (int i = incoming.offsets[v]; i < incoming.offsets[v + 1]; i++) {
+                    visit(incoming.targets[i], incoming.reversedEdges[i], inTree, bestRank, bestEdge, queue);
+                }
+            }
+        }
+
+        return new SpanningTree(totalWeight, edges);
+    }
+
+    /**
+     * Parallel Boruvka's algorithm: at every round all the edges are scanned in parallel to find the cheapest edge
+     * leaving every component (kept with a lock free CAS minimum), then all those edges are added at once.
+     * The number of components at least halves at every round, so there are at most log(V) rounds
+     * O(E log V) work, O(E / cores * log V) time
+     *
+     * @return SpanningTree
+     */
+    public SpanningTree boruvka() {
+        int n = graph.verticesNumber();
+        int m = graph.numberOfEdges;
+        DisjointSet set = new DisjointSet(n);
+        int[] component = new int[n];
+        AtomicLongArray cheapest = new AtomicLongArray(n);
+        ArrayList<Edge> edges = new ArrayList<>();
+        long totalWeight = 0;
+        boolean merged = true;
+
+        while (merged && edges.size() < n - 1) {
+            merged = false;
+
+            for (int v = 0; v < n; v++) {
+                component[v] = set.find(v);
+                cheapest.set(v, NO_EDGE);
+            }
+
+            IntStream.range(0, m).parallel().forEach(e -> {
+                int a = component[sources[e]], b = component[graph.targets[e]];
+                if (a == b) return;
+
+                long rank = rank(e);
+                if (rank < cheapest.get(a)) cheapest.accumulateAndGet(a, rank, Math::min);
+                if (rank < cheapest.get(b)) cheapest.accumulateAndGet(b, rank, Math::min);
+            });
+
+            for (int c = 0; c < n; c++) {
+                long rank = cheapest.get(c);
+                if (rank == NO_EDGE) continue;
+
+                int e = (int) rank;
+
+                // The same edge can be the cheapest one of both its components
+                if (!set.areUnified(sources[e], graph.targets[e])) {
+                    set.union(sources[e], graph.targets[e]);
+                    edges.add(toEdge(e));
+                    totalWeight += graph.weights[e];
+                    merged = true;
+                }
+            }
+        }
+
+        return new SpanningTree(totalWeight, edges);
+    }
+
+    /**
+     * Offers the edge 'e' as the connection of the vertex 'v' to the tree
+     *
+     * @param v        The vertex outside of the tree
+     * @param e        Index of the edge
+     * @param inTree   Vertices already inside the tree
+     * @param bestRank Rank of the cheapest known edge of every vertex
+     * @param bestEdge Index of the cheapest known edge of every vertex
+     * @param queue    The vertices waiting to be added to the tree
+     */
+    private void visit(int v, int e, boolean[] inTree, long[] bestRank, int[] bestEdge, IntIndexedPriorityQueue queue) {
+        long rank = rank(e);
+        if (inTree[v] || rank >= bestRank[v]) return;
+
+        bestRank[v] = rank;
+        bestEdge[v] = e;
+
+        if (!queue.contains(v)) queue.insert(v, graph.weights[e]);
+        else queue.update(v, graph.weights[e]);
+    }
+
+    /**
+     * Packs the weight (higher 32 bits) and the index (lower 32 bits) of the given edge into a single long,
+     * ordering the ranks orders the edges by weight and then by index
+     *
+     * @param e int
+     * @return long
+     */
+    private long rank(int e) {
+        return ((long) graph.weights[e] << 32) | e;
+    }
+
+    /**
+     * Returns the Edge object of the given CSR edge
+     *
+     * @param e int
+     * @return Edge
+     */
+    private Edge toEdge(int e) {
+        return new Edge(sources[e], graph.targets[e], graph.weights[e]);
+    }
+}
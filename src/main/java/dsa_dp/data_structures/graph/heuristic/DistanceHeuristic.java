@@ -0,0 +1,5 @@
+package dsa_dp.data_structures.graph.heuristic;
+
+public interface DistanceHeuristic {
+    int estimate(int from, int to);
+}
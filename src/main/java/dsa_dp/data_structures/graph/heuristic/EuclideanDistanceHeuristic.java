@@ -0,0 +1,37 @@
+package dsa_dp.data_structures.graph.heuristic;
+
+public class EuclideanDistanceHeuristic implements DistanceHeuristic {
+    private final double[] x, y;
+
+
+    /**
+     * Constructor with the coordinates of every vertex, vertex 'i' is placed at (x[i], y[i])
+     * The heuristic is admissible only if no edge weight is lower than the straight line distance of its vertices
+     *
+     * @param x double[]
+     * @param y double[]
+     */
+    public EuclideanDistanceHeuristic(double[] x, double[] y) {
+        if (x.length != y.length)
+            throw new IndexOutOfBoundsException("Every vertex needs both coordinates");
+
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Returns the straight line distance between the two given vertices, rounded down
+     * so that it never overestimates the real distance
+     *
+     * @param from int
+     * @param to   int
+     * @return int
+     */
+    @Override
+    public int estimate(int from, int to) {
+        double dx = x[from] - x[to];
+        double dy = y[from] - y[to];
+
+        return (int) Math.floor(Math.sqrt(dx * dx + dy * dy));
+    }
+}
@@ -0,0 +1,51 @@
+package dsa_dp.data_structures.graph.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+public class BreadthFirstTree {
+    public final int source;
+    public final int[] distances, parents;
+
+
+    /**
+     * Constructor with the results of a Breadth First Search
+     *
+     * @param source    The vertex the search started from
+     * @param distances Number of edges between the source and every vertex, -1 for the unreached vertices
+     * @param parents   The vertex every vertex has been discovered from, -1 for the source and the unreached vertices
+     */
+    public BreadthFirstTree(int source, int[] distances, int[] parents) {
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+    }
+
+    /**
+     * Returns whether the given vertex has been reached by the search or not
+     *
+     * @param v int
+     * @return boolean
+     */
+    public boolean isReached(int v) {
+        return distances[v] != -1;
+    }
+
+    /**
+     * Returns the path from the source to the given vertex following the parents of the tree
+     *
+     * @param v Ending vertex
+     * @return The vertices that compose the path, an empty list if the vertex has not been reached
+     */
+    public ArrayList<Integer> pathTo(int v) {
+        ArrayList<Integer> path = new ArrayList<>();
+        if (!isReached(v)) return path;
+
+        for (int at = v; at != -1; at = parents[at]) {
+            path.add(at);
+        }
+
+        Collections.reverse(path);
+        return path;
+    }
+}
@@ -0,0 +1,24 @@
+package dsa_dp.data_structures.graph.model;
+
+public class Edge {
+    public final int from, to, weight;
+
+
+    /**
+     * Constructor with the given vertices and weight
+     *
+     * @param from   Starting vertex's edge
+     * @param to     Ending vertex's edge
+     * @param weight Edge weight
+     */
+    public Edge(int from, int to, int weight) {
+        this.from = from;
+        this.to = to;
+        this.weight = weight;
+    }
+
+    @Override
+    public String toString() {
+        return from + " ---> " + to + " (" + weight + ")";
+    }
+}
@@ -0,0 +1,20 @@
+package dsa_dp.data_structures.graph.model;
+
+import java.util.ArrayList;
+
+public class SpanningTree {
+    public final long totalWeight;
+    public final ArrayList<Edge> edges;
+
+
+    /**
+     * Constructor with the edges composing the tree (or the forest, when the graph is not connected)
+     *
+     * @param totalWeight Sum of the weights of the edges
+     * @param edges       ArrayList<Edge>
+     */
+    public SpanningTree(long totalWeight, ArrayList<Edge> edges) {
+        this.totalWeight = totalWeight;
+        this.edges = edges;
+    }
+}
@@ -2,8 +2,6 @@ package dsa_dp.data_structures.graph.model;
 
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Objects;
-
 public class Vertex implements Comparable<Vertex> {
     public final int i;
     public int weight;
@@ -28,9 +26,13 @@ public class Vertex implements Comparable<Vertex> {
         this.weight = weight;
     }
 
+    /**
+     * Only the index takes part in the hash, consistently with equals(),
+     * so that an edge can be found and removed without knowing its weight
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(i, weight);
+        return Integer.hashCode(i);
     }
 
     @Override
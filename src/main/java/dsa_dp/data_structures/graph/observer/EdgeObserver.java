@@ -0,0 +1,12 @@
+package dsa_dp.data_structures.graph.observer;
+
+/**
+ * Gets notified by a graph after every change of its edges
+ */
+public interface EdgeObserver {
+    void edgeAdded(int from, int to, int weight);
+
+    void edgeRemoved(int from, int to, int weight);
+
+    void edgeWeightChanged(int from, int to, int oldWeight, int newWeight);
+}
@@ -0,0 +1,64 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts the keys and the values of a persistent table to bytes and back.
+ * Equal objects must be encoded to equal bytes, the persistent tables compare the encoded keys.
+ *
+ * @param <T> Type of the encoded objects
+ */
+public interface Codec<T> {
+    Codec<String> STRING = new Codec<>() {
+        @Override
+        public byte[] encode(String value) {
+            return value.getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public String decode(byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+
+    Codec<Integer> INTEGER = new Codec<>() {
+        @Override
+        public byte[] encode(Integer value) {
+            return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+        }
+
+        @Override
+        public Integer decode(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getInt();
+        }
+    };
+
+    Codec<Long> LONG = new Codec<>() {
+        @Override
+        public byte[] encode(Long value) {
+            return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+        }
+
+        @Override
+        public Long decode(byte[] bytes) {
+            return ByteBuffer.wrap(bytes).getLong();
+        }
+    };
+
+    /**
+     * Returns the bytes of the given object
+     *
+     * @param value T
+     * @return byte[]
+     */
+    byte[] encode(T value);
+
+    /**
+     * Returns the object of the given bytes
+     *
+     * @param bytes byte[]
+     * @return T
+     */
+    T decode(byte[] bytes);
+}
@@ -0,0 +1,403 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe separate chaining hash table.
+ * - Reads never lock: the chains are made of nodes whose key and hash never change, while values and links
+ * are volatile, so a reader always sees a consistent chain
+ * - An empty bucket is filled with a CAS, a non empty bucket is locked on its first node (one lock per bucket)
+ * - The table doubles cooperatively: the buckets are split into strides claimed with a CAS, every writer that
+ * meets a bucket being moved helps moving the remaining strides. A moved bucket is replaced by a forwarding
+ * node pointing to the new table, so reads and writes are never blocked by a resize
+ * Null keys and null values are not allowed.
+ */
+public class ConcurrentHashTableSeparateChaining<K, V> extends HashTable<K, V> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    // Number of buckets moved by a thread at every claim during a resize
+    private static final int TRANSFER_STRIDE = 16;
+    // Hash of the forwarding nodes, the real hashes are never negative
+    private static final int MOVED = -1;
+    private volatile AtomicReferenceArray<Node<K, V>> table;
+    private final AtomicReference<Transfer<K, V>> transfer = new AtomicReference<>();
+    private final LongAdder count = new LongAdder();
+
+
+    /**
+     * Default constructor
+     */
+    public ConcurrentHashTableSeparateChaining() {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with given capacity
+     *
+     * @param capacity int
+     */
+    public ConcurrentHashTableSeparateChaining(int capacity) {
+        this(capacity, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with given capacity and loadFactor, the capacity is rounded up to a power of two
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     */
+    public ConcurrentHashTableSeparateChaining(int capacity, float loadFactor) {
+        this.setLoadFactor(loadFactor);
+        this.table = new AtomicReferenceArray<>(Math.max(2, Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1));
+    }
+
+    /**
+     * Returns the value to which the given key is mapped, or null if this table contains no mapping for the key.
+     * It never blocks
+     *
+     * @param key K
+     * @return V | null
+     */
+    @Override
+    public V get(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            Node<K, V> node = tab.get(hash & (tab.length() - 1));
+
+            if (node instanceof ForwardingNode) {
+                tab = ((ForwardingNode<K, V>) node).nextTable;
+                continue;
+            }
+
+            for (; node != null; node = node.next) {
+                if (node.hash == hash && node.key.equals(key)) return node.value;
+            }
+
+            return null;
+        }
+    }
+
+    /**
+     * Inserts a new mapping into the table, it doesn't allow duplicates
+     *
+     * @param key   K
+     * @param value V
+     */
+    @Override
+    public void add(K key, V value) {
+        if (value == null) throw new NullPointerException("Null values are not allowed");
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(i);
+
+            if (first == null) {
+                if (tab.compareAndSet(i, null, new Node<>(hash, key, value, null))) break;
+            } else if (first instanceof ForwardingNode) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+            } else {
+                synchronized (first) {
+                    // The bucket changed (or got moved) before the lock was taken
+                    if (tab.get(i) != first) continue;
+
+                    for (Node<K, V> node = first; ; node = node.next) {
+                        // Duplicate entry case, let's return
+                        if (node.hash == hash && node.key.equals(key)) return;
+
+                        if (node.next == null) {
+                            node.next = new Node<>(hash, key, value, null);
+                            break;
+                        }
+                    }
+                }
+
+                break;
+            }
+        }
+
+        count.increment();
+
+        // Checking if we need to resize the table or not
+        if (count.sum() > (long) (tab.length() * this.loadFactor)) {
+            this.startTransfer(tab);
+        }
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean put(K key, V value) {
+        if (value == null) throw new NullPointerException("Null values are not allowed");
+
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(i);
+
+            if (first == null) return false;
+
+            if (first instanceof ForwardingNode) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+                continue;
+            }
+
+            synchronized (first) {
+                if (tab.get(i) != first) continue;
+
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        node.value = value;
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Removes the value mapped to the given key from the table and returns true.
+     * If not key is found, it returns false.
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean remove(K key) {
+        int hash = spread(key.hashCode());
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+
+        while (true) {
+            int i = hash & (tab.length() - 1);
+            Node<K, V> first = tab.get(i);
+
+            if (first == null) return false;
+
+            if (first instanceof ForwardingNode) {
+                tab = this.helpTransfer((ForwardingNode<K, V>) first);
+                continue;
+            }
+
+            synchronized (first) {
+                if (tab.get(i) != first) continue;
+
+                for (Node<K, V> node = first, prev = null; node != null; prev = node, node = node.next) {
+                    if (node.hash == hash && node.key.equals(key)) {
+                        if (prev == null) tab.set(i, node.next);
+                        else prev.next = node.next;
+
+                        count.decrement();
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the current number of elements inside the table,
+     * it is exact only when no other thread is modifying the table
+     *
+     * @return int
+     */
+    @Override
+    public int size() {
+        return (int) count.sum();
+    }
+
+    /**
+     * Returns the current internal table capacity (capacity)
+     *
+     * @return int
+     */
+    @Override
+    public int capacity() {
+        return this.table.length();
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        AtomicReferenceArray<Node<K, V>> tab = this.table;
+        System.out.println("HASH TABLE START:");
+
+        for (int i = 0; i < tab.length(); i++) {
+            StringBuilder bucket = new StringBuilder("[");
+
+            for (Node<K, V> node = tab.get(i); node != null && !(node instanceof ForwardingNode); node = node.next) {
+                if (bucket.length() > 1) bucket.append(", ");
+                bucket.append("{key=").append(node.key).append(", value=").append(node.value).append('}');
+            }
+
+            System.out.println(i + " : " + bucket.append(']'));
+        }
+    }
+
+    /**
+     * Starts doubling the given table, unless another thread already did it
+     *
+     * @param tab The table that exceeded its threshold
+     */
+    private void startTransfer(AtomicReferenceArray<Node<K, V>> tab) {
+        if (this.transfer.get() != null || this.table != tab) return;
+
+        Transfer<K, V> t = new Transfer<>(tab);
+        if (!this.transfer.compareAndSet(null, t)) return;
+
+        // A whole resize may have been completed since 'tab' was read, the table must not be doubled twice
+        if (this.table != tab) {
+            this.transfer.set(null);
+            return;
+        }
+
+        this.transfer(t);
+    }
+
+    /**
+     * Helps the resize that produced the given forwarding node, then returns the table to continue with
+     *
+     * @param forwardingNode ForwardingNode
+     * @return The new table
+     */
+    private AtomicReferenceArray<Node<K, V>> helpTransfer(ForwardingNode<K, V> forwardingNode) {
+        Transfer<K, V> t = this.transfer.get();
+        if (t != null && t.nextTable == forwardingNode.nextTable) this.transfer(t);
+
+        return forwardingNode.nextTable;
+    }
+
+    /**
+     * Claims strides of buckets and moves them to the new table until no stride is left,
+     * the thread that moves the last bucket publishes the new table
+     *
+     * @param t Transfer
+     */
+    private void transfer(Transfer<K, V> t) {
+        int n = t.table.length();
+
+        while (true) {
+            int end = t.transferIndex.getAndAdd(-TRANSFER_STRIDE);
+            if (end <= 0) return;
+
+            int start = Math.max(0, end - TRANSFER_STRIDE);
+
+            for (int i = start; i < end; i++) {
+                this.moveBucket(t, i);
+            }
+
+            if (t.movedBuckets.addAndGet(end - start) == n) {
+                this.table = t.nextTable;
+                this.transfer.set(null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Splits the given bucket in two chains (the nodes that stay at 'i' and the ones that go to 'i + n'),
+     * the nodes are copied so that the readers still walking the old chain are not affected
+     *
+     * @param t Transfer
+     * @param i Index of the bucket
+     */
+    private void moveBucket(Transfer<K, V> t, int i) {
+        int n = t.table.length();
+
+        while (true) {
+            Node<K, V> first = t.table.get(i);
+
+            if (first == null) {
+                if (t.table.compareAndSet(i, null, t.forwardingNode)) return;
+                continue;
+            }
+
+            synchronized (first) {
+                if (t.table.get(i) != first) continue;
+
+                Node<K, V> low = null, high = null;
+
+                for (Node<K, V> node = first; node != null; node = node.next) {
+                    if ((node.hash & n) == 0) low = new Node<>(node.hash, node.key, node.value, low);
+                    else high = new Node<>(node.hash, node.key, node.value, high);
+                }
+
+                t.nextTable.set(i, low);
+                t.nextTable.set(i + n, high);
+                t.table.set(i, t.forwardingNode);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Spreads the higher bits of the hash to the lower ones (the capacity is a power of two,
+     * so only the lower bits choose the bucket) and clears the sign bit
+     *
+     * @param hash int
+     * @return int
+     */
+    private static int spread(int hash) {
+        return (hash ^ (hash >>> 16)) & Integer.MAX_VALUE;
+    }
+
+    private static class Node<K, V> {
+        final int hash;
+        final K key;
+        volatile V value;
+        volatile Node<K, V> next;
+
+        Node(int hash, K key, V value, Node<K, V> next) {
+            this.hash = hash;
+            this.key = key;
+            this.value = value;
+            this.next = next;
+        }
+    }
+
+    /**
+     * Placeholder of a bucket that has already been moved to the new table
+     */
+    private static class ForwardingNode<K, V> extends Node<K, V> {
+        final AtomicReferenceArray<Node<K, V>> nextTable;
+
+        ForwardingNode(AtomicReferenceArray<Node<K, V>> nextTable) {
+            super(MOVED, null, null, null);
+            this.nextTable = nextTable;
+        }
+    }
+
+    /**
+     * State of a resize in progress, shared by all the threads that help it
+     */
+    private static class Transfer<K, V> {
+        final AtomicReferenceArray<Node<K, V>> table, nextTable;
+        final ForwardingNode<K, V> forwardingNode;
+        // Buckets are claimed from the end of the table towards the start
+        final AtomicInteger transferIndex, movedBuckets = new AtomicInteger();
+
+        Transfer(AtomicReferenceArray<Node<K, V>> table) {
+            this.table = table;
+            this.nextTable = new AtomicReferenceArray<>(table.length() * 2);
+            this.forwardingNode = new ForwardingNode<>(nextTable);
+            this.transferIndex = new AtomicInteger(table.length());
+        }
+    }
+}
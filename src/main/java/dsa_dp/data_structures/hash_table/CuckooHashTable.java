@@ -0,0 +1,457 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.util.Arrays;
+
+/**
+ * Bucketised cuckoo hash table: every key can only live in one of the 4 slots of its two candidate buckets
+ * (chosen by two different hash functions) or in a small stash, so a lookup never reads more than
+ * 2 buckets + the stash, whatever the load of the table.
+ * When both buckets are full, a breadth first search (bounded to MAX_SEARCH_NODES buckets) looks for the
+ * shortest chain of keys that can be moved to their other bucket to make room, the keys that cannot be placed
+ * go to the stash, a full stash doubles the table. When the table is less than half full a failure is caused by
+ * keys sharing the same hash rather than by the load, so the stash grows instead of the table.
+ * Keys, values and hashes live in flat arrays, the cached hashes are reused while moving the keys around.
+ */
+public class CuckooHashTable<K, V> extends HashTable<K, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.9f;
+    private static final int BUCKET_SIZE = 4;
+    private static final int STASH_SIZE = 4;
+    private static final int MAX_SEARCH_NODES = 256;
+    private Object[] keys, values;
+    private int[] hashes;
+    private int bucketMask;
+    private Object[] stashKeys = new Object[STASH_SIZE], stashValues = new Object[STASH_SIZE];
+    private int[] stashHashes = new int[STASH_SIZE];
+    private int stashSize;
+    // Breadth first search buffers: the bucket of every node, its parent node and the slot of the parent
+    // bucket whose key moves into this bucket
+    private final int[] searchBucket = new int[MAX_SEARCH_NODES];
+    private final int[] searchParent = new int[MAX_SEARCH_NODES];
+    private final int[] searchSlot = new int[MAX_SEARCH_NODES];
+
+
+    /**
+     * Default constructor
+     */
+    public CuckooHashTable() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with the number of mappings expected, the table won't need any resize to hold them
+     *
+     * @param expectedSize int
+     */
+    public CuckooHashTable(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with given expected size and load factor
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     */
+    public CuckooHashTable(int expectedSize, float loadFactor) {
+        this.setLoadFactor(loadFactor);
+        this.initTable(Math.max(2 * BUCKET_SIZE, tableSizeFor(expectedSize, this.loadFactor)));
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   K
+     * @param value V
+     * @throws IllegalStateException if the table would need to grow beyond 2^30 slots
+     */
+    @Override
+    public void add(K key, V value) {
+        int hash = key.hashCode();
+        int index = this.find(key, hash);
+
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+
+        if (index != -1) {
+            stashValues[-index - 2] = value;
+            return;
+        }
+
+        // Checking if we need to resize the table or not
+        this.checkGrowth();
+        if (this.size >= this.threshold) {
+            this.rehash(this.capacity * 2);
+        }
+
+        // A failed place leaves the table untouched
+        while (!this.place(key, value, hash)) {
+            if (this.capacity >= MAXIMUM_CAPACITY) throw capacityExceeded();
+            this.rehash(this.capacity * 2);
+        }
+
+        this.size++;
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key K
+     * @return V | null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = this.find(key, key.hashCode());
+
+        if (index >= 0) return (V) values[index];
+        return index == -1 ? null : (V) stashValues[-index - 2];
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean put(K key, V value) {
+        int index = this.find(key, key.hashCode());
+
+        if (index >= 0) values[index] = value;
+        else if (index != -1) stashValues[-index - 2] = value;
+
+        return index != -1;
+    }
+
+    /**
+     * Removes the value mapped to the given key from the table and returns true.
+     * If not key is found, it returns false.
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean remove(K key) {
+        int index = this.find(key, key.hashCode());
+        if (index == -1) return false;
+
+        if (index >= 0) {
+            keys[index] = null;
+            values[index] = null;
+        } else {
+            // The last stash entry takes the place of the removed one
+            int i = -index - 2;
+            stashSize--;
+            stashKeys[i] = stashKeys[stashSize];
+            stashValues[i] = stashValues[stashSize];
+            stashHashes[i] = stashHashes[stashSize];
+            stashKeys[stashSize] = null;
+            stashValues[stashSize] = null;
+        }
+
+        this.size--;
+        return true;
+    }
+
+    /**
+     * Returns the number of entries that could not be placed inside their buckets
+     *
+     * @return int
+     */
+    public int stashSize() {
+        return stashSize;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        System.out.println("HASH TABLE START:");
+
+        for (int b = 0; b <= bucketMask; b++) {
+            StringBuilder bucket = new StringBuilder("[");
+
+            for (int i = b * BUCKET_SIZE; i < (b + 1) * BUCKET_SIZE; i++) {
+                if (i > b * BUCKET_SIZE) bucket.append(", ");
+                bucket.append(keys[i] == null ? null : "{key=" + keys[i] + ", value=" + values[i] + "}");
+            }
+
+            System.out.println(b + " : " + bucket.append(']'));
+        }
+
+        for (int i = 0; i < stashSize; i++) {
+            System.out.println("stash : {key=" + stashKeys[i] + ", value=" + stashValues[i] + "}");
+        }
+    }
+
+    /**
+     * Returns the slot of the given key, (-2 - stash index) if the key is inside the stash, -1 if not found.
+     * Only the two candidate buckets and the stash are checked
+     *
+     * @param key  K
+     * @param hash The hashCode of the key
+     * @return int
+     */
+    private int find(K key, int hash) {
+        int first = firstBucket(hash) * BUCKET_SIZE;
+        int second = secondBucket(hash) * BUCKET_SIZE;
+
+        for (int i = 0; i < BUCKET_SIZE; i++) {
+            if (hashes[first + i] == hash && key.equals(keys[first + i])) return first + i;
+            if (hashes[second + i] == hash && key.equals(keys[second + i])) return second + i;
+        }
+
+        for (int i = 0; i < stashSize; i++) {
+            if (stashHashes[i] == hash && key.equals(stashKeys[i])) return -i - 2;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Places a key that is not inside the table: in a free slot of its buckets, or at the end of the shortest
+     * displacement chain found by the breadth first search, or inside the stash.
+     * The stash goes past STASH_SIZE only while the table is less than half full
+     *
+     * @param key   Object
+     * @param value Object
+     * @param hash  The hashCode of the key
+     * @return false if there is no room for the key
+     */
+    private boolean place(Object key, Object value, int hash) {
+        int first = firstBucket(hash), second = secondBucket(hash);
+        int slot = this.freeSlot(first);
+        if (slot == -1) slot = this.freeSlot(second);
+        if (slot == -1) slot = this.makeRoom(first, second);
+
+        if (slot != -1) {
+            this.setSlot(slot, key, value, hash);
+            return true;
+        }
+
+        if (stashSize >= STASH_SIZE) {
+            if (this.size * 2 >= this.capacity) return false;
+
+            if (stashSize == stashKeys.length) {
+                stashKeys = Arrays.copyOf(stashKeys, stashSize * 2);
+                stashValues = Arrays.copyOf(stashValues, stashSize * 2);
+                stashHashes = Arrays.copyOf(stashHashes, stashSize * 2);
+            }
+        }
+
+        stashKeys[stashSize] = key;
+        stashValues[stashSize] = value;
+        stashHashes[stashSize] = hash;
+        stashSize++;
+
+        return true;
+    }
+
+    /**
+     * Breadth first search of the shortest chain of keys that can be moved to their other bucket, ending with
+     * a key whose other bucket has a free slot. The keys of the chain are then moved from the end to the start,
+     * so that the first slot of the chain (inside one of the two given buckets) becomes free
+     *
+     * @param first  First candidate bucket of the key to place
+     * @param second Second candidate bucket of the key to place
+     * @return The freed slot, -1 if no chain has been found
+     */
+    private int makeRoom(int first, int second) {
+        int head = 0, tail = 0;
+        searchBucket[tail] = first;
+        searchParent[tail++] = -1;
+        searchBucket[tail] = second;
+        searchParent[tail++] = -1;
+
+        while (head < tail) {
+            int node = head++;
+            int bucket = searchBucket[node];
+
+            for (int s = 0; s < BUCKET_SIZE; s++) {
+                int slot = bucket * BUCKET_SIZE + s;
+                int other = this.otherBucket(hashes[slot], bucket);
+                if (other == bucket || this.isOnPath(node, other)) continue;
+
+                int free = this.freeSlot(other);
+
+                if (free != -1) {
+                    // Moving the keys along the chain, from the free slot back to the root bucket
+                    this.moveSlot(slot, free);
+
+                    for (int at = node; searchParent[at] != -1; at = searchParent[at]) {
+                        int from = searchBucket[searchParent[at]] * BUCKET_SIZE + searchSlot[at];
+                        this.moveSlot(from, slot);
+                        slot = from;
+                    }
+
+                    return slot;
+                }
+
+                if (tail < MAX_SEARCH_NODES) {
+                    searchBucket[tail] = other;
+                    searchParent[tail] = node;
+                    searchSlot[tail++] = s;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns whether the given bucket is already on the chain that leads to the given search node,
+     * the same bucket twice on a chain would move a key over another one
+     *
+     * @param node   int
+     * @param bucket int
+     * @return boolean
+     */
+    private boolean isOnPath(int node, int bucket) {
+        for (int at = node; at != -1; at = searchParent[at]) {
+            if (searchBucket[at] == bucket) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the first free slot of the given bucket, -1 if the bucket is full
+     *
+     * @param bucket int
+     * @return int
+     */
+    private int freeSlot(int bucket) {
+        for (int i = bucket * BUCKET_SIZE; i < (bucket + 1) * BUCKET_SIZE; i++) {
+            if (keys[i] == null) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Moves the entry of the 'from' slot into the free 'to' slot
+     *
+     * @param from int
+     * @param to   int
+     */
+    private void moveSlot(int from, int to) {
+        this.setSlot(to, keys[from], values[from], hashes[from]);
+        keys[from] = null;
+        values[from] = null;
+    }
+
+    /**
+     * Sets the given slot
+     *
+     * @param slot  int
+     * @param key   Object
+     * @param value Object
+     * @param hash  int
+     */
+    private void setSlot(int slot, Object key, Object value, int hash) {
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+    }
+
+    /**
+     * Initializes a new empty table with the given number of slots (a power of two)
+     *
+     * @param capacity int
+     */
+    private void initTable(int capacity) {
+        this.capacity = capacity;
+        this.threshold = thresholdOf(capacity, this.loadFactor);
+        this.bucketMask = capacity / BUCKET_SIZE - 1;
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.hashes = new int[capacity];
+    }
+
+    /**
+     * Moves all the entries (stash included) inside a new table with the given capacity,
+     * doubling it again until every entry finds a place.
+     * If even MAXIMUM_CAPACITY is not enough the previous table is restored before throwing
+     *
+     * @param capacity int
+     * @throws IllegalStateException if the entries do not fit in MAXIMUM_CAPACITY slots
+     */
+    private void rehash(int capacity) {
+        Object[] oldKeys = this.keys, oldValues = this.values;
+        int[] oldHashes = this.hashes;
+        Object[] oldStashKeys = stashKeys, oldStashValues = stashValues;
+        int[] oldStashHashes = stashHashes;
+        int oldStashSize = stashSize;
+        boolean placed = false;
+
+        while (!placed) {
+            this.initTable(capacity);
+            stashKeys = new Object[STASH_SIZE];
+            stashValues = new Object[STASH_SIZE];
+            stashHashes = new int[STASH_SIZE];
+            stashSize = 0;
+            placed = true;
+
+            for (int i = 0; i < oldKeys.length && placed; i++) {
+                if (oldKeys[i] != null) placed = this.place(oldKeys[i], oldValues[i], oldHashes[i]);
+            }
+
+            for (int i = 0; i < oldStashSize && placed; i++) {
+                placed = this.place(oldStashKeys[i], oldStashValues[i], oldStashHashes[i]);
+            }
+
+            if (!placed && capacity >= MAXIMUM_CAPACITY) {
+                this.capacity = oldKeys.length;
+                this.threshold = thresholdOf(this.capacity, this.loadFactor);
+                this.bucketMask = this.capacity / BUCKET_SIZE - 1;
+                this.keys = oldKeys;
+                this.values = oldValues;
+                this.hashes = oldHashes;
+                stashKeys = oldStashKeys;
+                stashValues = oldStashValues;
+                stashHashes = oldStashHashes;
+                stashSize = oldStashSize;
+                throw capacityExceeded();
+            }
+
+            capacity *= 2;
+        }
+    }
+
+    /**
+     * Returns the bucket of the given key that is not the given one
+     *
+     * @param hash   The hashCode of the key
+     * @param bucket One of the two buckets of the key
+     * @return int
+     */
+    private int otherBucket(int hash, int bucket) {
+        int first = firstBucket(hash);
+        return bucket == first ? secondBucket(hash) : first;
+    }
+
+    /**
+     * First hash function: murmur3 finalizer
+     *
+     * @param hash int
+     * @return int
+     */
+    private int firstBucket(int hash) {
+        return HashingType.mix(hash) & bucketMask;
+    }
+
+    /**
+     * Second hash function: fibonacci hashing of the key hash, independent from the first one
+     *
+     * @param hash int
+     * @return int
+     */
+    private int secondBucket(int hash) {
+        int h = hash * 0x9E3779B9;
+        return (h ^ (h >>> 15)) & bucketMask;
+    }
+}
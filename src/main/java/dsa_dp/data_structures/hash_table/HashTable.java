@@ -1,8 +1,15 @@
 package dsa_dp.data_structures.hash_table;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 public abstract class HashTable<K, V> {
+    // Largest power of two capacity, the tables made of arrays cannot grow beyond it
+    protected static final int MAXIMUM_CAPACITY = 1 << 30;
     protected int size, capacity, threshold;
     protected float loadFactor;
+    protected HashingType hashing = HashingType.MODULO;
+    // Combined with every hashCode, it is random only with the SEEDED hashing type
+    protected int seed;
 
 
     /**
@@ -18,15 +25,101 @@ public abstract class HashTable<K, V> {
         this.loadFactor = loadFactor;
     }
 
+    /**
+     * Setter for the hashing property, the SEEDED hashing type draws a new random seed
+     *
+     * @param hashing HashingType
+     */
+    protected void setHashing(HashingType hashing) {
+        this.hashing = hashing;
+        this.seed = hashing == HashingType.SEEDED ? ThreadLocalRandom.current().nextInt() : 0;
+    }
+
+    /**
+     * Returns the capacity to use in place of the given one, rounded up to a power of two
+     * if the hashing type needs it
+     *
+     * @param capacity int
+     * @return int
+     */
+    protected int capacityFor(int capacity) {
+        if (!this.hashing.isPowerOfTwo()) return capacity;
+
+        return Math.min(MAXIMUM_CAPACITY, Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1);
+    }
+
     /**
      * Returns a positive hash value clamped between zero and the current table capacity
-     * (0 <= hash <= this.capacity)
+     * (0 <= hash < this.capacity)
      *
      * @param key K
      */
     protected int getCleanHash(K key) {
-        int hash = key.hashCode() % this.capacity;
-        return hash > 0 ? hash : hash * -1;
+        return getCleanHash(key, this.capacity);
+    }
+
+    /**
+     * Returns a positive hash value clamped between zero and the given capacity
+     * (0 <= hash < capacity)
+     *
+     * @param key      K
+     * @param capacity int
+     */
+    protected int getCleanHash(K key, int capacity) {
+        return indexFor(key.hashCode(), capacity);
+    }
+
+    /**
+     * Returns the index of an already computed hashCode (ex. the one cached inside an Entry)
+     * inside a table of the given capacity
+     *
+     * @param hash     int
+     * @param capacity int
+     * @return int
+     */
+    protected int indexFor(int hash, int capacity) {
+        return this.hashing.indexFor(hash ^ this.seed, capacity);
+    }
+
+    /**
+     * Returns the smallest power of two capacity that holds the given number of entries without resizing
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     * @return int
+     */
+    protected static int tableSizeFor(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 2) / (double) Math.max(loadFactor, 0.01f)) + 1;
+        return (int) Math.min(MAXIMUM_CAPACITY, Long.highestOneBit(needed - 1) << 1);
+    }
+
+    /**
+     * Returns the resize threshold of the given capacity, at least one slot is always kept empty
+     * so that the probing loops always terminate
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @return int
+     */
+    protected static int thresholdOf(int capacity, float loadFactor) {
+        return Math.min(capacity - 1, (int) (capacity * loadFactor));
+    }
+
+    /**
+     * Throws an IllegalStateException if one more entry would need a table bigger than MAXIMUM_CAPACITY.
+     * It is called before the insertion, so a failed add leaves the table as it was
+     */
+    protected void checkGrowth() {
+        if (this.size + 1 > this.threshold && this.capacity >= MAXIMUM_CAPACITY) throw capacityExceeded();
+    }
+
+    /**
+     * Returns the exception thrown when the table would need to grow beyond MAXIMUM_CAPACITY
+     *
+     * @return IllegalStateException
+     */
+    protected static IllegalStateException capacityExceeded() {
+        return new IllegalStateException("The table cannot grow beyond " + MAXIMUM_CAPACITY + " slots");
     }
 
     /**
@@ -47,6 +140,67 @@ public abstract class HashTable<K, V> {
         return this.capacity;
     }
 
+    /**
+     * Inserts all the given mappings (keys[i] -> values[i]) into the table, following the add() semantic
+     *
+     * @param keys   K[]
+     * @param values V[]
+     */
+    public void addAll(K[] keys, V[] values) {
+        checkBatch(keys.length, values.length);
+
+        for (int i = 0; i < keys.length; i++) {
+            add(keys[i], values[i]);
+        }
+    }
+
+    /**
+     * Updates the values of all the given keys that are inside the table (keys[i] -> values[i])
+     *
+     * @param keys   K[]
+     * @param values V[]
+     * @return The number of updated keys
+     */
+    public int putAll(K[] keys, V[] values) {
+        checkBatch(keys.length, values.length);
+        int updated = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            if (put(keys[i], values[i])) updated++;
+        }
+
+        return updated;
+    }
+
+    /**
+     * Looks up all the given keys at once, out[i] gets the value of keys[i] (null if not found)
+     *
+     * @param keys K[]
+     * @param out  V[], at least as long as keys
+     * @return The number of keys found
+     */
+    public int getAll(K[] keys, V[] out) {
+        checkBatch(keys.length, out.length);
+        int found = 0;
+
+        for (int i = 0; i < keys.length; i++) {
+            out[i] = get(keys[i]);
+            if (out[i] != null) found++;
+        }
+
+        return found;
+    }
+
+    /**
+     * Throws an IllegalArgumentException if the values of a batch cannot hold the keys
+     *
+     * @param keys   Number of keys
+     * @param values Number of values
+     */
+    protected static void checkBatch(int keys, int values) {
+        if (values < keys) throw new IllegalArgumentException("The values array must be at least as long as the keys one");
+    }
+
     abstract public void add(K key, V value);
 
     abstract public V get(K key);
@@ -5,16 +5,26 @@ import java.util.ArrayList;
 public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
     private static final int DEFAULT_CAPACITY = 24;
     private static final float DEFAULT_LOAD_FACTOR = 0.6f;
+    // Number of old table slots migrated by every operation during an incremental resize
+    private static final int MIGRATION_STEP = 8;
     // Marker that represents removed elements, useful to optimize later insertions
     private final K TOMBSTONE = (K) new Object();
+    // Marker left inside the old table by a migrated entry, it keeps the entry's hash so the probe chains stay valid
+    @SuppressWarnings("unchecked")
+    private final K MIGRATED = (K) new Object();
+    private final ProbingType type;
+    private final ResizeType resizeType;
     private ArrayList<Entry<K, V>> table;
+    // Incremental resize state, the old table is null when no migration is in progress
+    private ArrayList<Entry<K, V>> oldTable;
+    private int oldCapacity, migrationIndex;
 
 
     /**
      * Default constructor
      */
     public HashTableOpenAddressing() {
-        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR);
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, ProbingType.LINEAR);
     }
 
     /**
@@ -23,7 +33,50 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      * @param loadFactor float
      */
     public HashTableOpenAddressing(float loadFactor) {
-        this(DEFAULT_CAPACITY, loadFactor);
+        this(DEFAULT_CAPACITY, loadFactor, ProbingType.LINEAR);
+    }
+
+    /**
+     * Constructor with given probing type (linear, robin hood)
+     *
+     * @param type ProbingType
+     */
+    public HashTableOpenAddressing(ProbingType type) {
+        this(DEFAULT_CAPACITY, DEFAULT_LOAD_FACTOR, type);
+    }
+
+    /**
+     * Constructor with given load factor and probing type (linear, robin hood)
+     *
+     * @param loadFactor float
+     * @param type       ProbingType
+     */
+    public HashTableOpenAddressing(float loadFactor, ProbingType type) {
+        this(DEFAULT_CAPACITY, loadFactor, type);
+    }
+
+    /**
+     * Constructor with given load factor, probing type (linear, robin hood) and resize type (full, incremental)
+     *
+     * @param loadFactor float
+     * @param type       ProbingType
+     * @param resizeType ResizeType
+     */
+    public HashTableOpenAddressing(float loadFactor, ProbingType type, ResizeType resizeType) {
+        this(DEFAULT_CAPACITY, loadFactor, type, resizeType);
+    }
+
+    /**
+     * Constructor with given load factor, probing type (linear, robin hood), resize type (full, incremental)
+     * and hashing type (modulo, murmur3, fibonacci, seeded)
+     *
+     * @param loadFactor float
+     * @param type       ProbingType
+     * @param resizeType ResizeType
+     * @param hashing    HashingType
+     */
+    public HashTableOpenAddressing(float loadFactor, ProbingType type, ResizeType resizeType, HashingType hashing) {
+        this(DEFAULT_CAPACITY, loadFactor, type, resizeType, hashing);
     }
 
     /**
@@ -33,24 +86,87 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      * @param loadFactor float
      */
     HashTableOpenAddressing(int capacity, float loadFactor) {
-        this.capacity = Math.max(capacity, 3);
+        this(capacity, loadFactor, ProbingType.LINEAR);
+    }
+
+    /**
+     * Constructor with given capacity, load factor and probing type.
+     * - LINEAR: probes with the Probe.linearProbing() step, removed entries are replaced by tombstones
+     * - ROBIN_HOOD: probes with step 1 keeping the entries sorted by distance from their home slot, an entry
+     * that has travelled further steals the slot of a closer one. Lookups stop as soon as they meet an entry
+     * closer to its home than the searched key would be, removals shift the following entries backward
+     * instead of leaving tombstones, so the probe sequences stay short under continuous insertions and removals
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @param type       ProbingType
+     */
+    HashTableOpenAddressing(int capacity, float loadFactor, ProbingType type) {
+        this(capacity, loadFactor, type, ResizeType.FULL);
+    }
+
+    /**
+     * Constructor with given capacity, load factor, probing type and resize type.
+     * - FULL: the table that crosses the threshold is re hashed at once inside the add() call
+     * - INCREMENTAL: the old table is kept aside and every following operation migrates a few of its slots
+     * (plus the slot of the key it works on), so no single operation pays for the whole rehash.
+     * Until the migration completes, the keys not migrated yet are looked up inside the old table
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @param type       ProbingType
+     * @param resizeType ResizeType
+     */
+    HashTableOpenAddressing(int capacity, float loadFactor, ProbingType type, ResizeType resizeType) {
+        this(capacity, loadFactor, type, resizeType, HashingType.MODULO);
+    }
+
+    /**
+     * Constructor with given capacity, load factor, probing type, resize type and hashing type.
+     * The hashing types other than MODULO round the capacity up to a power of two, so the home slot
+     * is a mask of the mixed hash instead of a division
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @param type       ProbingType
+     * @param resizeType ResizeType
+     * @param hashing    HashingType
+     */
+    HashTableOpenAddressing(int capacity, float loadFactor, ProbingType type, ResizeType resizeType, HashingType hashing) {
+        this.type = type;
+        this.resizeType = resizeType;
+        this.setHashing(hashing);
+        this.capacity = this.capacityFor(Math.max(capacity, 3));
         this.setLoadFactor(loadFactor);
-        this.threshold = (int) (this.capacity * this.loadFactor);
-        this.table = this.initEmptyTable(capacity);
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
+        this.table = this.initEmptyTable(this.capacity);
     }
 
     /**
-     * Inserts a new Entry(key value pair object) into the table
+     * Inserts a new Entry(key value pair object) into the table.
+     * In ROBIN_HOOD mode, if the key is already inside the table its value gets replaced
      *
      * @param key   K
      * @param value V
      */
     @Override
     public void add(K key, V value) {
+        // With a load factor of 1.0 the threshold lets the table reach a single empty slot, that slot is never
+        // filled: the probing loops (also the ones on the old table of an incremental resize) need it to stop
+        if (this.size + 1 >= this.capacity) {
+            this.resizeTable();
+        }
+
+        this.migrate(key);
         Entry<K, V> entry = new Entry<>(key, value);
-        int index = probeForAnEmptySlot(key, null);
 
-        this.table.set(index, entry);
+        if (this.type == ProbingType.ROBIN_HOOD) {
+            if (!this.robinHoodInsert(entry, this.table)) return;
+        } else {
+            int index = probeForAnEmptySlot(entry.hash, null);
+            this.table.set(index, entry);
+        }
+
         this.size++;
 
         // Checking if we need to resize the table or not
@@ -68,6 +184,13 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      */
     @Override
     public V get(K key) {
+        this.migrate(key);
+
+        if (this.type == ProbingType.ROBIN_HOOD) {
+            int index = this.robinHoodFind(key, this.table, this.capacity);
+            return index == -1 ? null : this.table.get(index).value;
+        }
+
         try {
             return this.table.get(this.probeForASlot(key)).value;
         } catch (Exception e) {
@@ -83,7 +206,8 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      */
     @Override
     public boolean put(K key, V value) {
-        int index = this.probeForASlot(key);
+        this.migrate(key);
+        int index = this.type == ProbingType.ROBIN_HOOD ? this.robinHoodFind(key, this.table, this.capacity) : this.probeForASlot(key);
 
         if (index != -1 && this.table.get(index) != null) {
             this.table.set(index, new Entry<>(key, value));
@@ -102,6 +226,18 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      */
     @Override
     public boolean remove(K key) {
+        this.migrate(key);
+
+        if (this.type == ProbingType.ROBIN_HOOD) {
+            int index = this.robinHoodFind(key, this.table, this.capacity);
+            if (index == -1) return false;
+
+            this.robinHoodShiftBackward(index);
+            this.size--;
+
+            return true;
+        }
+
         int index = this.probeForASlot(key);
 
         if (index != -1 && this.table.get(index) != null) {
@@ -124,6 +260,82 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
         for (int i = 0; i < this.capacity; i++) {
             System.out.println(i + " : " + this.table.get(i));
         }
+
+        if (this.oldTable != null) {
+            System.out.println("OLD TABLE (migrated up to " + this.migrationIndex + "):");
+
+            for (int i = 0; i < this.oldCapacity; i++) {
+                System.out.println(i + " : " + this.oldTable.get(i));
+            }
+        }
+    }
+
+    /**
+     * Incremental resize step, executed by every operation while the old table is still around:
+     * the entry of the given key (if it is still inside the old table) is migrated first, so that the operation
+     * only has to look at the new table, then the next MIGRATION_STEP slots of the old table are migrated
+     *
+     * @param key K
+     */
+    private void migrate(K key) {
+        if (this.oldTable == null) return;
+
+        int index = this.type == ProbingType.ROBIN_HOOD
+                ? this.robinHoodFind(key, this.oldTable, this.oldCapacity)
+                : this.probeForKey(key, this.oldTable, this.oldCapacity);
+
+        if (index != -1) this.migrateSlot(index);
+
+        for (int i = 0; i < MIGRATION_STEP && this.migrationIndex < this.oldCapacity; i++) {
+            this.migrateSlot(this.migrationIndex++);
+        }
+
+        if (this.migrationIndex == this.oldCapacity) this.oldTable = null;
+    }
+
+    /**
+     * Moves the entry of the given old table slot into the new table. The old slot is not emptied,
+     * it gets a marker with the same hash so that the probe chains of the other old entries are not broken
+     *
+     * @param index int
+     */
+    private void migrateSlot(int index) {
+        Entry<K, V> entry = this.oldTable.get(index);
+        if (entry == null || entry.key == TOMBSTONE || entry.key == MIGRATED) return;
+
+        if (this.type == ProbingType.ROBIN_HOOD) {
+            this.robinHoodInsert(entry, this.table);
+        } else {
+            this.table.set(this.probeForAnEmptySlot(entry.hash, this.table), entry);
+        }
+
+        Entry<K, V> marker = new Entry<>(MIGRATED, null);
+        marker.hash = entry.hash;
+        this.oldTable.set(index, marker);
+    }
+
+    /**
+     * Read only version of probeForASlot() working on the given table
+     *
+     * @param key      K
+     * @param table    ArrayList<Entry<K, V>>
+     * @param capacity The capacity of the given table
+     * @return int
+     */
+    private int probeForKey(K key, ArrayList<Entry<K, V>> table, int capacity) {
+        int hash = key.hashCode();
+        int home = this.homeSlot(hash, capacity);
+        int index = home;
+        Entry<K, V> tempEntry = table.get(index);
+
+        for (int x = 1; tempEntry != null; x++) {
+            if (tempEntry.hash == hash && tempEntry.key.equals(key)) return index;
+
+            index = (home + Probe.linearProbing(x)) % capacity;
+            tempEntry = table.get(index);
+        }
+
+        return -1;
     }
 
     /**
@@ -168,13 +380,13 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
      * Note: The NOT FOUND case cannot occur because the size of the table and the probe X number
      * are kept always relatively prime to each other
      *
-     * @param key   K
-     * @param table ArrayList<Entry<K, V>>
+     * @param keyHash The hashCode of the key, cached inside its Entry so that a resize never calls hashCode()
+     * @param table   ArrayList<Entry<K, V>>
      * @return int
      */
-    private int probeForAnEmptySlot(K key, ArrayList<Entry<K, V>> table) {
+    private int probeForAnEmptySlot(int keyHash, ArrayList<Entry<K, V>> table) {
         table = table == null ? this.table : table;
-        int hash = getCleanHash(key);
+        int hash = this.homeSlot(keyHash, this.capacity);
         int index = hash;
         int x = 0;
         Entry<K, V> tempEntry = table.get(index);
@@ -188,6 +400,117 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
         return index;
     }
 
+    /**
+     * Robin Hood insertion: the entry walks from its home slot and takes the place of the first entry that is
+     * closer to its own home, the displaced entry then continues the walk in the same way.
+     * If the key is found before any displacement, its value is replaced
+     *
+     * @param entry Entry<K, V>
+     * @param table ArrayList<Entry<K, V>>
+     * @return true if a new entry has been added, false if an existing one has been updated
+     */
+    private boolean robinHoodInsert(Entry<K, V> entry, ArrayList<Entry<K, V>> table) {
+        int index = this.homeSlot(entry.hash, this.capacity);
+        int distance = 0;
+        boolean displaced = false;
+        Entry<K, V> tempEntry = table.get(index);
+
+        while (tempEntry != null) {
+            // Once something was displaced the carried entry is a different one, its key cannot be duplicated
+            if (!displaced && tempEntry.isEqual(entry)) {
+                tempEntry.value = entry.value;
+                return false;
+            }
+
+            int tempDistance = this.probeDistance(tempEntry, index, this.capacity);
+
+            if (tempDistance < distance) {
+                table.set(index, entry);
+                entry = tempEntry;
+                distance = tempDistance;
+                displaced = true;
+            }
+
+            index = (index + 1) % this.capacity;
+            tempEntry = table.get(index);
+            distance++;
+        }
+
+        table.set(index, entry);
+        return true;
+    }
+
+    /**
+     * Robin Hood lookup, it returns the slot of the given key or -1.
+     * The search stops at the first entry closer to its home than the key would be at that point,
+     * because the insertion would have placed the key there
+     *
+     * @param key      K
+     * @param table    ArrayList<Entry<K, V>>
+     * @param capacity The capacity of the given table
+     * @return int
+     */
+    private int robinHoodFind(K key, ArrayList<Entry<K, V>> table, int capacity) {
+        int hash = key.hashCode();
+        int index = this.homeSlot(hash, capacity);
+        Entry<K, V> tempEntry = table.get(index);
+
+        for (int distance = 0; tempEntry != null; distance++) {
+            if (this.probeDistance(tempEntry, index, capacity) < distance) return -1;
+            if (tempEntry.hash == hash && tempEntry.key.equals(key)) return index;
+
+            index = (index + 1) % capacity;
+            tempEntry = table.get(index);
+        }
+
+        return -1;
+    }
+
+    /**
+     * Backward shift deletion: the entries following the removed one are moved one slot back
+     * until an empty slot or an entry sitting in its home slot is met
+     *
+     * @param index The slot of the removed entry
+     */
+    private void robinHoodShiftBackward(int index) {
+        int next = (index + 1) % this.capacity;
+        Entry<K, V> tempEntry = this.table.get(next);
+
+        while (tempEntry != null && this.probeDistance(tempEntry, next, this.capacity) > 0) {
+            this.table.set(index, tempEntry);
+            index = next;
+            next = (next + 1) % this.capacity;
+            tempEntry = this.table.get(next);
+        }
+
+        this.table.set(index, null);
+    }
+
+    /**
+     * Returns the home slot of the given hash inside a table of the given capacity,
+     * the same index computed by getCleanHash()
+     *
+     * @param hash     int
+     * @param capacity int
+     * @return int
+     */
+    private int homeSlot(int hash, int capacity) {
+        return this.indexFor(hash, capacity);
+    }
+
+    /**
+     * Returns how many slots the given entry is far from its home slot, reusing the hash cached inside the entry
+     *
+     * @param entry    Entry<K, V>
+     * @param index    The slot of the entry
+     * @param capacity The capacity of the table holding the entry
+     * @return int
+     */
+    private int probeDistance(Entry<K, V> entry, int index, int capacity) {
+        int distance = index - this.homeSlot(entry.hash, capacity);
+        return distance >= 0 ? distance : distance + capacity;
+    }
+
     /**
      * Initializes a new empty table with the instance given capacity filled with null values
      *
@@ -204,20 +527,44 @@ public class HashTableOpenAddressing<K, V> extends HashTable<K, V> {
     }
 
     /**
-     * Doubles the size of the current table and re hashes all the previous elements inside it
+     * Doubles the size of the current table and re hashes all the previous elements inside it,
+     * in INCREMENTAL mode the current table only becomes the old table and the migration is left to the following
+     * operations
      */
     private void resizeTable() {
+        // A migration still in progress (possible only with very low load factors) is completed first
+        if (this.oldTable != null) {
+            while (this.migrationIndex < this.oldCapacity) {
+                this.migrateSlot(this.migrationIndex++);
+            }
+
+            this.oldTable = null;
+        }
+
         this.capacity *= 2;
         ArrayList<Entry<K, V>> newTable = initEmptyTable(this.capacity);
 
+        if (this.resizeType == ResizeType.INCREMENTAL) {
+            this.oldTable = this.table;
+            this.oldCapacity = this.capacity / 2;
+            this.migrationIndex = 0;
+            this.table = newTable;
+            this.threshold = thresholdOf(this.capacity, this.loadFactor);
+            return;
+        }
+
         for (Entry<K, V> entry : this.table) {
-            if (entry != null) {
-                int index = this.probeForAnEmptySlot(entry.key, newTable);
+            if (entry == null || entry.key == TOMBSTONE) continue;
+
+            if (this.type == ProbingType.ROBIN_HOOD) {
+                this.robinHoodInsert(entry, newTable);
+            } else {
+                int index = this.probeForAnEmptySlot(entry.hash, newTable);
                 newTable.set(index, entry);
             }
         }
 
         this.table = newTable;
-        this.threshold = (int) (this.capacity * this.loadFactor);
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
     }
 }
@@ -8,7 +8,15 @@ import java.util.LinkedList;
 public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements Iterable<Entry<K, V>> {
     private static final int DEFAULT_CAPACITY = 11;
     private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    // Number of old table buckets migrated by every operation during an incremental resize
+    private static final int MIGRATION_STEP = 4;
+    // Number of keys whose buckets are loaded together by getAll()
+    private static final int LOOKUP_BATCH = 16;
+    private final ResizeType resizeType;
     private ArrayList<LinkedList<Entry<K, V>>> table;
+    // Incremental resize state, the old table is null when no migration is in progress
+    private ArrayList<LinkedList<Entry<K, V>>> oldTable;
+    private int oldCapacity, migrationIndex;
 
 
     /**
@@ -34,7 +42,37 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      * @param loadFactor float
      */
     public HashTableSeparateChaining(int capacity, float loadFactor) {
-        this.capacity = Math.max(capacity, 3); // I want to avoid to work with table that are too small (ex. < 3)
+        this(capacity, loadFactor, ResizeType.FULL);
+    }
+
+    /**
+     * Constructor with given capacity, loadFactor and resize type.
+     * - FULL: the table that crosses the threshold is re hashed at once inside the add() call
+     * - INCREMENTAL: the old table is kept aside and every following operation migrates a few of its buckets
+     * (plus the bucket of the key it works on), so no single operation pays for the whole rehash
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @param resizeType ResizeType
+     */
+    public HashTableSeparateChaining(int capacity, float loadFactor, ResizeType resizeType) {
+        this(capacity, loadFactor, resizeType, HashingType.MODULO);
+    }
+
+    /**
+     * Constructor with given capacity, loadFactor, resize type and hashing type.
+     * The hashing types other than MODULO round the capacity up to a power of two, so the bucket index
+     * is a mask of the mixed hash instead of a division
+     *
+     * @param capacity   int
+     * @param loadFactor float
+     * @param resizeType ResizeType
+     * @param hashing    HashingType
+     */
+    public HashTableSeparateChaining(int capacity, float loadFactor, ResizeType resizeType, HashingType hashing) {
+        this.resizeType = resizeType;
+        this.setHashing(hashing);
+        this.capacity = this.capacityFor(Math.max(capacity, 3)); // I want to avoid to work with table that are too small (ex. < 3)
         this.setLoadFactor(loadFactor);
         // The threshold tells us the max number of entries that can be inside the table before we need to resize it
         this.threshold = (int) (this.capacity * this.loadFactor);
@@ -47,6 +85,7 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      * @return boolean
      */
     public V get(K key) {
+        this.migrate(key);
         int hash = getCleanHash(key);
         LinkedList<Entry<K, V>> bucket = this.table.get(hash);
         Entry<K, V> entryToRetrieve = new Entry<>(key, null);
@@ -67,6 +106,7 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      * @param value V
      */
     public void add(K key, V value) {
+        this.migrate(key);
         int hash = getCleanHash(key);
         LinkedList<Entry<K, V>> bucket = this.table.get(hash);
         Entry<K, V> newEntry = new Entry<>(key, value);
@@ -96,6 +136,7 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      * @return boolean
      */
     public boolean put(K key, V value) {
+        this.migrate(key);
         int hash = getCleanHash(key);
         LinkedList<Entry<K, V>> bucket = this.table.get(hash);
         Entry<K, V> newEntry = new Entry<>(key, value);
@@ -118,6 +159,7 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      * @return boolean
      */
     public boolean remove(K key) {
+        this.migrate(key);
         int hash = getCleanHash(key);
         LinkedList<Entry<K, V>> bucket = this.table.get(hash);
         Entry<K, V> entryToRemove = new Entry<>(key, null);
@@ -134,6 +176,111 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
         return false;
     }
 
+    /**
+     * Inserts all the given mappings (keys[i] -> values[i]) into the table, it doesn't allow duplicates.
+     * The table is resized at most once, to the capacity that holds all the batch: in FULL mode before the
+     * insertions, in INCREMENTAL mode as soon as no other migration is in progress, and every insertion moves
+     * the migration forward like add() does
+     *
+     * @param keys   K[]
+     * @param values V[]
+     */
+    @Override
+    public void addAll(K[] keys, V[] values) {
+        checkBatch(keys.length, values.length);
+        long needed = (long) this.size + keys.length;
+        int newCapacity = this.capacity;
+
+        while ((long) (newCapacity * this.loadFactor) < needed && newCapacity <= Integer.MAX_VALUE / 2) {
+            newCapacity *= 2;
+        }
+
+        boolean incremental = this.resizeType == ResizeType.INCREMENTAL;
+        if (!incremental && newCapacity != this.capacity) this.resizeTable(newCapacity, false);
+
+        for (int i = 0; i < keys.length; i++) {
+            if (incremental) {
+                if (newCapacity > this.capacity && this.oldTable == null) this.resizeTable(newCapacity, true);
+                this.migrate(keys[i]);
+            }
+
+            int hash = keys[i].hashCode();
+            LinkedList<Entry<K, V>> bucket = this.table.get(indexFor(hash, this.capacity));
+            boolean duplicate = false;
+
+            for (Entry<K, V> entry : bucket) {
+                if (entry.hash == hash && entry.key.equals(keys[i])) {
+                    duplicate = true;
+                    break;
+                }
+            }
+
+            if (!duplicate) {
+                bucket.add(new Entry<>(keys[i], values[i]));
+                this.size++;
+            }
+        }
+
+        // Duplicated keys inside the batch may leave the table below the computed capacity, never above
+        if (this.size > this.threshold) {
+            resizeTable();
+        }
+    }
+
+    /**
+     * Looks up all the given keys at once, out[i] gets the value of keys[i] (null if not found).
+     * The keys are resolved in groups of LOOKUP_BATCH: the hashes and the first entries of all the buckets
+     * of a group are loaded first, then the keys are compared. The loads of a group don't depend on each other,
+     * so the CPU overlaps their cache misses instead of waiting for them one key at a time
+     *
+     * @param keys K[]
+     * @param out  V[], at least as long as keys
+     * @return The number of keys found
+     */
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public int getAll(K[] keys, V[] out) {
+        // The keys not migrated yet may still be inside the old table
+        if (this.oldTable != null) return super.getAll(keys, out);
+
+        checkBatch(keys.length, out.length);
+        int[] hashes = new int[LOOKUP_BATCH];
+        LinkedList<Entry<K, V>>[] buckets = new LinkedList[LOOKUP_BATCH];
+        Entry<K, V>[] firsts = new Entry[LOOKUP_BATCH];
+        int found = 0;
+
+        for (int start = 0; start < keys.length; start += LOOKUP_BATCH) {
+            int n = Math.min(LOOKUP_BATCH, keys.length - start);
+
+            for (int j = 0; j < n; j++) {
+                hashes[j] = keys[start + j].hashCode();
+                buckets[j] = this.table.get(indexFor(hashes[j], this.capacity));
+                firsts[j] = buckets[j].peekFirst();
+            }
+
+            for (int j = 0; j < n; j++) {
+                K key = keys[start + j];
+                V value = null;
+
+                if (firsts[j] != null && firsts[j].hash == hashes[j] && firsts[j].key.equals(key)) {
+                    value = firsts[j].value;
+                } else if (firsts[j] != null) {
+                    for (Entry<K, V> entry : buckets[j]) {
+                        if (entry.hash == hashes[j] && entry.key.equals(key)) {
+                            value = entry.value;
+                            break;
+                        }
+                    }
+                }
+
+                out[start + j] = value;
+                if (value != null) found++;
+            }
+        }
+
+        return found;
+    }
+
     /**
      * Prints the HashTable in a suitable format
      */
@@ -143,6 +290,14 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
         for (int i = 0; i < this.capacity; i++) {
             System.out.println(i + " : " + this.table.get(i));
         }
+
+        if (this.oldTable != null) {
+            System.out.println("OLD TABLE (migrated up to " + this.migrationIndex + "):");
+
+            for (int i = 0; i < this.oldCapacity; i++) {
+                System.out.println(i + " : " + this.oldTable.get(i));
+            }
+        }
     }
 
     /**
@@ -152,7 +307,47 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
      */
     @Override
     public Iterator<Entry<K, V>> iterator() {
-        return new HashTableSeparateChainingIterator<>(this.table);
+        if (this.oldTable == null) return new HashTableSeparateChainingIterator<>(this.table);
+
+        // During a migration the buckets not migrated yet are iterated after the new table
+        ArrayList<LinkedList<Entry<K, V>>> buckets = new ArrayList<>(this.table);
+        buckets.addAll(this.oldTable.subList(this.migrationIndex, this.oldCapacity));
+
+        return new HashTableSeparateChainingIterator<>(buckets);
+    }
+
+    /**
+     * Incremental resize step, executed by every operation while the old table is still around:
+     * the old bucket of the given key is migrated first, so that the operation only has to look at the new table,
+     * then the next MIGRATION_STEP buckets of the old table are migrated
+     *
+     * @param key K
+     */
+    private void migrate(K key) {
+        if (this.oldTable == null) return;
+
+        this.migrateBucket(getCleanHash(key, this.oldCapacity));
+
+        for (int i = 0; i < MIGRATION_STEP && this.migrationIndex < this.oldCapacity; i++) {
+            this.migrateBucket(this.migrationIndex++);
+        }
+
+        if (this.migrationIndex == this.oldCapacity) this.oldTable = null;
+    }
+
+    /**
+     * Moves all the entries of the given old table bucket into the new table, leaving the old bucket empty
+     *
+     * @param index int
+     */
+    private void migrateBucket(int index) {
+        LinkedList<Entry<K, V>> bucket = this.oldTable.get(index);
+
+        for (Entry<K, V> entry : bucket) {
+            this.table.get(indexFor(entry.hash, this.capacity)).add(entry);
+        }
+
+        bucket.clear();
     }
 
     /**
@@ -173,16 +368,40 @@ public class HashTableSeparateChaining<K, V> extends HashTable<K, V> implements
 
     /**
      * Doubles the size of the internal table and repopulates it with all the previous values
-     * recalculating the threshold afterwards
+     * recalculating the threshold afterwards, in INCREMENTAL mode the current table only becomes the old table
+     * and the migration is left to the following operations
      */
     private void resizeTable() {
-        this.capacity *= 2;
+        // The migration still in progress (possible only with very low load factors or batches) is not forced
+        // to complete, the following operations finish it and the next insertion starts the new resize
+        if (this.oldTable != null) return;
+
+        this.resizeTable(this.capacity * 2, this.resizeType == ResizeType.INCREMENTAL);
+    }
+
+    /**
+     * Resizes the internal table to the given capacity
+     *
+     * @param newCapacity int
+     * @param incremental Whether the migration is left to the following operations or not
+     */
+    private void resizeTable(int newCapacity, boolean incremental) {
+        int previousCapacity = this.capacity;
+        this.capacity = newCapacity;
         ArrayList<LinkedList<Entry<K, V>>> newTable = this.initNewTable(this.capacity);
-        int hash;
 
+        if (incremental) {
+            this.oldTable = this.table;
+            this.oldCapacity = previousCapacity;
+            this.migrationIndex = 0;
+            this.threshold = (int) (this.capacity * this.loadFactor);
+            this.table = newTable;
+            return;
+        }
+
+        // The hashes cached inside the entries are reused, no hashCode() call during the resize
         for (Entry<K, V> entry : this) {
-            hash = getCleanHash(entry.key);
-            newTable.get(hash).add(entry);
+            newTable.get(indexFor(entry.hash, this.capacity)).add(entry);
         }
 
         this.threshold = (int) (this.capacity * this.loadFactor);
@@ -0,0 +1,87 @@
+package dsa_dp.data_structures.hash_table;
+
+/**
+ * How a key hashCode is turned into a table index.
+ * - MODULO: |hashCode % capacity|, works with any capacity but pays an integer division and keeps sequential
+ * keys in sequential slots
+ * - MURMUR3: the hashCode goes through the murmur3 finalizer and is masked, the capacity is a power of two
+ * - FIBONACCI: the hashCode is multiplied by 2^32 / golden ratio and the highest bits are kept,
+ * the capacity is a power of two
+ * - SEEDED: MURMUR3 applied to the hashCode combined with a random per table seed, so an attacker cannot
+ * build keys that collide inside the table (keys with equal hashCodes still collide)
+ */
+public enum HashingType {
+    MODULO {
+        @Override
+        int indexFor(int hash, int capacity) {
+            hash = hash % capacity;
+            return hash > 0 ? hash : hash * -1;
+        }
+    },
+    MURMUR3 {
+        @Override
+        int indexFor(int hash, int capacity) {
+            return mix(hash) & (capacity - 1);
+        }
+    },
+    FIBONACCI {
+        @Override
+        int indexFor(int hash, int capacity) {
+            return capacity == 1 ? 0 : (hash * 0x9E3779B9) >>> Integer.numberOfLeadingZeros(capacity - 1);
+        }
+    },
+    SEEDED {
+        @Override
+        int indexFor(int hash, int capacity) {
+            return mix(hash) & (capacity - 1);
+        }
+    };
+
+    /**
+     * Returns the index of the given hash inside a table of the given capacity (0 <= index < capacity)
+     *
+     * @param hash     int
+     * @param capacity int
+     * @return int
+     */
+    abstract int indexFor(int hash, int capacity);
+
+    /**
+     * Returns whether the capacities must be powers of two
+     *
+     * @return boolean
+     */
+    boolean isPowerOfTwo() {
+        return this != MODULO;
+    }
+
+    /**
+     * Murmur3 finalizer, shared by the tables that mask a mixed hash
+     *
+     * @param hash int
+     * @return int
+     */
+    static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85ebca6b;
+        hash ^= hash >>> 13;
+        hash *= 0xc2b2ae35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * Murmur3 64 bit finalizer folded to an int, used by the tables with long keys
+     *
+     * @param key long
+     * @return int
+     */
+    static int mix(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+}
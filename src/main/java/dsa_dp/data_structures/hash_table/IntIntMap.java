@@ -0,0 +1,297 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table specialised for int keys and int values.
+ * Keys and values live in two parallel arrays, so there is no Entry object per mapping and no allocation
+ * while looking up, adding or removing a key through the primitive methods.
+ * - The capacity is a power of two and the probing is linear (step 1), the hash is mixed before being masked
+ * - The key 0 marks the empty slots, so the mapping of the key 0 (if any) is stored apart
+ * - Removals shift the following entries of the cluster backward, so there are no tombstones
+ * The methods inherited from HashTable box their arguments, the primitive overloads should be preferred.
+ */
+public class IntIntMap extends HashTable<Integer, Integer> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int EMPTY = 0;
+    private final int missingValue;
+    private int[] keys, values;
+    private boolean hasZeroKey;
+    private int zeroValue;
+
+
+    /**
+     * Default constructor
+     */
+    public IntIntMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Constructor with the number of mappings expected, the table won't need any resize to hold them
+     *
+     * @param expectedSize int
+     */
+    public IntIntMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Constructor with given expected size, load factor and missing value
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     * @param missingValue The value returned by get(int) for the keys that are not inside the table
+     */
+    public IntIntMap(int expectedSize, float loadFactor, int missingValue) {
+        this.setLoadFactor(loadFactor);
+        this.missingValue = missingValue;
+        this.capacity = tableSizeFor(expectedSize, this.loadFactor);
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
+        this.keys = new int[this.capacity];
+        this.values = new int[this.capacity];
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   int
+     * @param value int
+     * @throws IllegalStateException if the table would need to grow beyond 2^30 slots
+     */
+    public void add(int key, int value) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) this.size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        this.checkGrowth();
+        keys[index] = key;
+        values[index] = value;
+        this.size++;
+
+        // Checking if we need to resize the table or not
+        if (this.size > this.threshold) {
+            this.resizeTable();
+        }
+    }
+
+    /**
+     * Returns the value to which the given key is mapped,
+     * returns the missing value if this table does not contain a mapping for the given key
+     *
+     * @param key int
+     * @return int
+     */
+    public int get(int key) {
+        if (key == EMPTY) return hasZeroKey ? zeroValue : missingValue;
+
+        int index = indexOf(key);
+        return index == -1 ? missingValue : values[index];
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @param key   int
+     * @param value int
+     * @return boolean
+     */
+    public boolean put(int key, int value) {
+        if (key == EMPTY) {
+            if (hasZeroKey) zeroValue = value;
+            return hasZeroKey;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        values[index] = value;
+        return true;
+    }
+
+    /**
+     * Adds the given delta to the value of the given key, a key that is not inside the table starts from zero
+     *
+     * @param key   int
+     * @param delta int
+     * @return The new value of the key
+     */
+    public int addTo(int key, int delta) {
+        if (key == EMPTY) {
+            add(key, (hasZeroKey ? zeroValue : 0) + delta);
+            return zeroValue;
+        }
+
+        int index = indexOf(key);
+
+        if (index != -1) return values[index] += delta;
+
+        add(key, delta);
+        return delta;
+    }
+
+    /**
+     * Returns whether the table contains a mapping for the given key or not
+     *
+     * @param key int
+     * @return boolean
+     */
+    public boolean containsKey(int key) {
+        return key == EMPTY ? hasZeroKey : indexOf(key) != -1;
+    }
+
+    /**
+     * Removes the mapping of the given key from the table and returns true.
+     * The entries following it inside the same cluster are shifted backward to fill the hole.
+     * If not key is found, it returns false.
+     *
+     * @param key int
+     * @return boolean
+     */
+    public boolean remove(int key) {
+        if (key == EMPTY) {
+            if (!hasZeroKey) return false;
+
+            hasZeroKey = false;
+            this.size--;
+            return true;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        int mask = this.capacity - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+
+        while (keys[index] != EMPTY) {
+            int home = HashingType.mix(keys[index]) & mask;
+
+            // The entry can fill the hole only if its home slot does not lie between the hole and its current slot
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        keys[hole] = EMPTY;
+        this.size--;
+
+        return true;
+    }
+
+    @Override
+    public void add(Integer key, Integer value) {
+        add(key.intValue(), value.intValue());
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key Integer
+     * @return Integer | null
+     */
+    @Override
+    public Integer get(Integer key) {
+        if (key == EMPTY) return hasZeroKey ? zeroValue : null;
+
+        int index = indexOf(key);
+        return index == -1 ? null : values[index];
+    }
+
+    @Override
+    public boolean put(Integer key, Integer value) {
+        return put(key.intValue(), value.intValue());
+    }
+
+    @Override
+    public boolean remove(Integer key) {
+        return remove(key.intValue());
+    }
+
+    /**
+     * Removes all the mappings, keeping the current capacity
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        hasZeroKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        System.out.println("HASH TABLE START:");
+
+        if (hasZeroKey) System.out.println("zero : {key=0, value=" + zeroValue + "}");
+
+        for (int i = 0; i < this.capacity; i++) {
+            System.out.println(i + " : " + (keys[i] == EMPTY ? null : "{key=" + keys[i] + ", value=" + values[i] + "}"));
+        }
+    }
+
+    /**
+     * Returns the slot of the given (non zero) key, -1 if the key is not inside the table
+     *
+     * @param key int
+     * @return int
+     */
+    private int indexOf(int key) {
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Doubles the size of the current table and re hashes all the previous elements inside it
+     */
+    private void resizeTable() {
+        int[] oldKeys = this.keys, oldValues = this.values;
+
+        this.capacity *= 2;
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
+        this.keys = new int[this.capacity];
+        this.values = new int[this.capacity];
+
+        int mask = this.capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+
+            int index = HashingType.mix(oldKeys[i]) & mask;
+            while (keys[index] != EMPTY) index = (index + 1) & mask;
+
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table specialised for long keys.
+ * Keys and values live in two parallel arrays, so there is no Entry object per mapping and no allocation
+ * while looking up, adding or removing a key through the primitive methods.
+ * - The capacity is a power of two and the probing is linear (step 1), the hash is mixed before being masked
+ * - The key 0 marks the empty slots, so the mapping of the key 0 (if any) is stored apart
+ * - Removals shift the following entries of the cluster backward, so there are no tombstones
+ * Null values are not allowed, get() returns null for the keys that are not inside the table.
+ *
+ * @param <V> Type of the values
+ */
+public class LongObjectMap<V> extends HashTable<Long, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final long EMPTY = 0;
+    private long[] keys;
+    private Object[] values;
+    private V zeroValue;
+
+
+    /**
+     * Default constructor
+     */
+    public LongObjectMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with the number of mappings expected, the table won't need any resize to hold them
+     *
+     * @param expectedSize int
+     */
+    public LongObjectMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with given expected size and load factor
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     */
+    public LongObjectMap(int expectedSize, float loadFactor) {
+        this.setLoadFactor(loadFactor);
+        this.capacity = tableSizeFor(expectedSize, this.loadFactor);
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
+        this.keys = new long[this.capacity];
+        this.values = new Object[this.capacity];
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   long
+     * @param value V
+     * @throws IllegalStateException if the table would need to grow beyond 2^30 slots
+     */
+    public void add(long key, V value) {
+        if (value == null) throw new NullPointerException("Null values are not allowed");
+
+        if (key == EMPTY) {
+            if (zeroValue == null) this.size++;
+            zeroValue = value;
+            return;
+        }
+
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) {
+                values[index] = value;
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        this.checkGrowth();
+        keys[index] = key;
+        values[index] = value;
+        this.size++;
+
+        // Checking if we need to resize the table or not
+        if (this.size > this.threshold) {
+            this.resizeTable();
+        }
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key long
+     * @return V | null
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        if (key == EMPTY) return zeroValue;
+
+        int index = indexOf(key);
+        return index == -1 ? null : (V) values[index];
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @param key   long
+     * @param value V
+     * @return boolean
+     */
+    public boolean put(long key, V value) {
+        if (value == null) throw new NullPointerException("Null values are not allowed");
+
+        if (key == EMPTY) {
+            if (zeroValue == null) return false;
+
+            zeroValue = value;
+            return true;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        values[index] = value;
+        return true;
+    }
+
+    /**
+     * Returns whether the table contains a mapping for the given key or not
+     *
+     * @param key long
+     * @return boolean
+     */
+    public boolean containsKey(long key) {
+        return key == EMPTY ? zeroValue != null : indexOf(key) != -1;
+    }
+
+    /**
+     * Removes the mapping of the given key from the table and returns true.
+     * The entries following it inside the same cluster are shifted backward to fill the hole.
+     * If not key is found, it returns false.
+     *
+     * @param key long
+     * @return boolean
+     */
+    public boolean remove(long key) {
+        if (key == EMPTY) {
+            if (zeroValue == null) return false;
+
+            zeroValue = null;
+            this.size--;
+            return true;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        int mask = this.capacity - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+
+        while (keys[index] != EMPTY) {
+            int home = HashingType.mix(keys[index]) & mask;
+
+            // The entry can fill the hole only if its home slot does not lie between the hole and its current slot
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                keys[hole] = keys[index];
+                values[hole] = values[index];
+                hole = index;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        keys[hole] = EMPTY;
+        values[hole] = null; // Letting the GC collect the value
+        this.size--;
+
+        return true;
+    }
+
+    @Override
+    public void add(Long key, V value) {
+        add(key.longValue(), value);
+    }
+
+    @Override
+    public V get(Long key) {
+        return get(key.longValue());
+    }
+
+    @Override
+    public boolean put(Long key, V value) {
+        return put(key.longValue(), value);
+    }
+
+    @Override
+    public boolean remove(Long key) {
+        return remove(key.longValue());
+    }
+
+    /**
+     * Removes all the mappings, keeping the current capacity
+     */
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        Arrays.fill(values, null);
+        zeroValue = null;
+        this.size = 0;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        System.out.println("HASH TABLE START:");
+
+        if (zeroValue != null) System.out.println("zero : {key=0, value=" + zeroValue + "}");
+
+        for (int i = 0; i < this.capacity; i++) {
+            System.out.println(i + " : " + (keys[i] == EMPTY ? null : "{key=" + keys[i] + ", value=" + values[i] + "}"));
+        }
+    }
+
+    /**
+     * Returns the slot of the given (non zero) key, -1 if the key is not inside the table
+     *
+     * @param key long
+     * @return int
+     */
+    private int indexOf(long key) {
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        while (keys[index] != EMPTY) {
+            if (keys[index] == key) return index;
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Doubles the size of the current table and re hashes all the previous elements inside it
+     */
+    private void resizeTable() {
+        long[] oldKeys = this.keys;
+        Object[] oldValues = this.values;
+
+        this.capacity *= 2;
+        this.threshold = thresholdOf(this.capacity, this.loadFactor);
+        this.keys = new long[this.capacity];
+        this.values = new Object[this.capacity];
+
+        int mask = this.capacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+
+            int index = HashingType.mix(oldKeys[i]) & mask;
+            while (keys[index] != EMPTY) index = (index + 1) & mask;
+
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+}
@@ -0,0 +1,391 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Open addressing hash table for long keys and long values stored outside the java heap.
+ * Every slot is 16 bytes (key, value) inside direct ByteBuffers, so the GC never scans the mappings
+ * no matter how many they are. A single ByteBuffer is limited to 2GB, the slots are therefore split in
+ * segments of 2^segmentShift bytes.
+ * - The capacity is a power of two and the probing is linear (step 1), the hash is mixed before being masked
+ * - The key 0 marks the empty slots, so the mapping of the key 0 (if any) is stored apart
+ * - Removals shift the following entries of the cluster backward, so there are no tombstones
+ * The memory is released by close(), the map cannot be used afterwards.
+ */
+public class OffHeapLongLongMap extends HashTable<Long, Long> implements AutoCloseable {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.75f;
+    private static final int DEFAULT_SEGMENT_SHIFT = 30;
+    private static final int SLOT_SHIFT = 4; // 16 bytes per slot
+    private static final long EMPTY = 0;
+    private final long missingValue;
+    private final int segmentShift;
+    private ByteBuffer[] segments;
+    private int slotShift, slotMask;
+    private boolean hasZeroKey;
+    private long zeroValue;
+
+
+    /**
+     * Default constructor
+     */
+    public OffHeapLongLongMap() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Constructor with the number of mappings expected, the table won't need any resize to hold them
+     *
+     * @param expectedSize int
+     */
+    public OffHeapLongLongMap(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR, 0);
+    }
+
+    /**
+     * Constructor with given expected size, load factor and missing value
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     * @param missingValue The value returned by get(long) for the keys that are not inside the table
+     */
+    public OffHeapLongLongMap(int expectedSize, float loadFactor, long missingValue) {
+        this(expectedSize, loadFactor, missingValue, DEFAULT_SEGMENT_SHIFT);
+    }
+
+    /**
+     * Constructor with given expected size, load factor, missing value and segment size
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     * @param missingValue long
+     * @param segmentShift Every segment is 2^segmentShift bytes (at most 30)
+     */
+    public OffHeapLongLongMap(int expectedSize, float loadFactor, long missingValue, int segmentShift) {
+        if (segmentShift < SLOT_SHIFT || segmentShift > DEFAULT_SEGMENT_SHIFT)
+            throw new IndexOutOfBoundsException("segmentShift must lie between " + SLOT_SHIFT + " and " + DEFAULT_SEGMENT_SHIFT);
+
+        this.setLoadFactor(loadFactor);
+        this.missingValue = missingValue;
+        this.segmentShift = segmentShift;
+        this.initTable(tableSizeFor(expectedSize, this.loadFactor));
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   long
+     * @param value long
+     * @throws IllegalStateException if the table would need to grow beyond 2^30 slots
+     */
+    public void add(long key, long value) {
+        this.checkOpen();
+
+        if (key == EMPTY) {
+            if (!hasZeroKey) this.size++;
+            hasZeroKey = true;
+            zeroValue = value;
+            return;
+        }
+
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        for (long k = keyAt(index); k != EMPTY; k = keyAt(index)) {
+            if (k == key) {
+                setValueAt(index, value);
+                return;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        this.checkGrowth();
+        setSlot(index, key, value);
+        this.size++;
+
+        // Checking if we need to resize the table or not
+        if (this.size > this.threshold) {
+            this.resizeTable();
+        }
+    }
+
+    /**
+     * Returns the value to which the given key is mapped,
+     * returns the missing value if this table does not contain a mapping for the given key
+     *
+     * @param key long
+     * @return long
+     */
+    public long get(long key) {
+        this.checkOpen();
+
+        if (key == EMPTY) return hasZeroKey ? zeroValue : missingValue;
+
+        int index = indexOf(key);
+        return index == -1 ? missingValue : valueAt(index);
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @param key   long
+     * @param value long
+     * @return boolean
+     */
+    public boolean put(long key, long value) {
+        this.checkOpen();
+
+        if (key == EMPTY) {
+            if (hasZeroKey) zeroValue = value;
+            return hasZeroKey;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        setValueAt(index, value);
+        return true;
+    }
+
+    /**
+     * Returns whether the table contains a mapping for the given key or not
+     *
+     * @param key long
+     * @return boolean
+     */
+    public boolean containsKey(long key) {
+        this.checkOpen();
+        return key == EMPTY ? hasZeroKey : indexOf(key) != -1;
+    }
+
+    /**
+     * Removes the mapping of the given key from the table and returns true.
+     * The entries following it inside the same cluster are shifted backward to fill the hole.
+     * If not key is found, it returns false.
+     *
+     * @param key long
+     * @return boolean
+     */
+    public boolean remove(long key) {
+        this.checkOpen();
+
+        if (key == EMPTY) {
+            if (!hasZeroKey) return false;
+
+            hasZeroKey = false;
+            this.size--;
+            return true;
+        }
+
+        int index = indexOf(key);
+        if (index == -1) return false;
+
+        int mask = this.capacity - 1;
+        int hole = index;
+        index = (index + 1) & mask;
+
+        for (long k = keyAt(index); k != EMPTY; k = keyAt(index)) {
+            int home = HashingType.mix(k) & mask;
+
+            // The entry can fill the hole only if its home slot does not lie between the hole and its current slot
+            if (((index - home) & mask) >= ((index - hole) & mask)) {
+                setSlot(hole, k, valueAt(index));
+                hole = index;
+            }
+
+            index = (index + 1) & mask;
+        }
+
+        setSlot(hole, EMPTY, 0);
+        this.size--;
+
+        return true;
+    }
+
+    @Override
+    public void add(Long key, Long value) {
+        add(key.longValue(), value.longValue());
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key Long
+     * @return Long | null
+     */
+    @Override
+    public Long get(Long key) {
+        this.checkOpen();
+        long k = key;
+
+        if (k == EMPTY) return hasZeroKey ? zeroValue : null;
+
+        // A single probe, the slot tells whether the key is inside the table
+        int index = indexOf(k);
+        return index == -1 ? null : valueAt(index);
+    }
+
+    @Override
+    public boolean put(Long key, Long value) {
+        return put(key.longValue(), value.longValue());
+    }
+
+    @Override
+    public boolean remove(Long key) {
+        return remove(key.longValue());
+    }
+
+    /**
+     * Removes all the mappings, keeping the current capacity
+     */
+    public void clear() {
+        this.checkOpen();
+
+        for (ByteBuffer segment : segments) {
+            for (int i = 0; i < segment.capacity(); i += Long.BYTES) {
+                segment.putLong(i, EMPTY);
+            }
+        }
+
+        hasZeroKey = false;
+        this.size = 0;
+    }
+
+    /**
+     * Releases the off heap memory of the table, every following operation throws an IllegalStateException.
+     * Closing a closed map does nothing
+     */
+    @Override
+    public void close() {
+        if (segments == null) return;
+
+        for (ByteBuffer segment : segments) {
+            free(segment);
+        }
+
+        segments = null;
+        this.size = 0;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        this.checkOpen();
+        System.out.println("HASH TABLE START:");
+
+        if (hasZeroKey) System.out.println("zero : {key=0, value=" + zeroValue + "}");
+
+        for (int i = 0; i < this.capacity; i++) {
+            System.out.println(i + " : " + (keyAt(i) == EMPTY ? null : "{key=" + keyAt(i) + ", value=" + valueAt(i) + "}"));
+        }
+    }
+
+    /**
+     * Returns the slot of the given (non zero) key, -1 if the key is not inside the table
+     *
+     * @param key long
+     * @return int
+     */
+    private int indexOf(long key) {
+        int mask = this.capacity - 1;
+        int index = HashingType.mix(key) & mask;
+
+        for (long k = keyAt(index); k != EMPTY; k = keyAt(index)) {
+            if (k == key) return index;
+            index = (index + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private long keyAt(int slot) {
+        return segments[slot >>> slotShift].getLong((slot & slotMask) << SLOT_SHIFT);
+    }
+
+    private long valueAt(int slot) {
+        return segments[slot >>> slotShift].getLong(((slot & slotMask) << SLOT_SHIFT) + Long.BYTES);
+    }
+
+    private void setValueAt(int slot, long value) {
+        segments[slot >>> slotShift].putLong(((slot & slotMask) << SLOT_SHIFT) + Long.BYTES, value);
+    }
+
+    private void setSlot(int slot, long key, long value) {
+        ByteBuffer segment = segments[slot >>> slotShift];
+        int offset = (slot & slotMask) << SLOT_SHIFT;
+        segment.putLong(offset, key);
+        segment.putLong(offset + Long.BYTES, value);
+    }
+
+    /**
+     * Allocates the (zeroed, so empty) segments of a table with the given capacity (a power of two)
+     *
+     * @param capacity int
+     */
+    private void initTable(int capacity) {
+        this.capacity = capacity;
+        this.threshold = thresholdOf(capacity, this.loadFactor);
+        this.slotShift = Math.min(segmentShift - SLOT_SHIFT, Integer.numberOfTrailingZeros(capacity));
+        this.slotMask = (1 << slotShift) - 1;
+        this.segments = new ByteBuffer[capacity >>> slotShift];
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect((slotMask + 1) << SLOT_SHIFT).order(ByteOrder.nativeOrder());
+        }
+    }
+
+    /**
+     * Doubles the size of the current table, re hashes all the previous elements inside it
+     * and releases the previous segments
+     */
+    private void resizeTable() {
+        ByteBuffer[] oldSegments = this.segments;
+
+        this.initTable(this.capacity * 2);
+        int mask = this.capacity - 1;
+
+        for (ByteBuffer segment : oldSegments) {
+            for (int offset = 0; offset < segment.capacity(); offset += 1 << SLOT_SHIFT) {
+                long key = segment.getLong(offset);
+                if (key == EMPTY) continue;
+
+                int index = HashingType.mix(key) & mask;
+                while (keyAt(index) != EMPTY) index = (index + 1) & mask;
+
+                setSlot(index, key, segment.getLong(offset + Long.BYTES));
+            }
+
+            free(segment);
+        }
+    }
+
+    private void checkOpen() {
+        if (segments == null) throw new IllegalStateException("The map has been closed");
+    }
+
+    /**
+     * Releases the memory of a direct buffer right away through the JDK cleaner when it is accessible,
+     * otherwise the memory is released when the buffer gets garbage collected
+     *
+     * @param buffer ByteBuffer
+     */
+    private static void free(ByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            invokeCleaner.invoke(field.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Left to the garbage collector
+        }
+    }
+}
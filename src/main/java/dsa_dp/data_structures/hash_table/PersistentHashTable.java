@@ -0,0 +1,698 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * Disk backed hash table made of two files inside a directory:
+ * - log: append only sequence of records [crc, key length, value length, key, value], a removal is a record
+ * with value length -1. The log is the source of truth, every record is protected by its checksum
+ * - index: memory mapped open addressing table of 16 bytes slots [log offset + 1, key hash], linear probing
+ * and backward shift deletion. It is only a cache of the log
+ * The index header is marked as dirty while the table is open and clean by close(), so a warm start simply maps
+ * both files again, while after a crash the index is rebuilt by scanning the log (a torn record at the end of
+ * the log gets truncated).
+ * Overwritten and removed records are dead bytes inside the log, the log is compacted (the live records are
+ * copied to a new log that atomically replaces the old one) as soon as they are more than half of it.
+ * Keys are compared by their encoded bytes, whose hash is stable across restarts (unlike Object.hashCode()).
+ * The I/O errors of the HashTable methods are thrown as UncheckedIOException.
+ */
+public class PersistentHashTable<K, V> extends HashTable<K, V> implements AutoCloseable {
+    public static final int SYNC_BATCH = 1024;
+    private static final String INDEX_FILE = "index", LOG_FILE = "log", TMP_SUFFIX = ".tmp";
+    private static final int MAGIC = 0x50485449; // "PHTI"
+    private static final int VERSION = 1;
+    private static final int DEFAULT_EXPECTED_SIZE = 1024;
+    private static final float DEFAULT_LOAD_FACTOR = 0.7f;
+    private static final long COMPACTION_MIN_BYTES = 1 << 20;
+    // Index header fields
+    private static final int HEADER_SIZE = 64;
+    private static final int MAGIC_OFFSET = 0, VERSION_OFFSET = 4, CAPACITY_OFFSET = 8, CLEAN_OFFSET = 12;
+    private static final int SIZE_OFFSET = 16, LOG_LENGTH_OFFSET = 24, DEAD_BYTES_OFFSET = 32;
+    // Index slots
+    private static final int SLOT_SHIFT = 4; // 16 bytes per slot
+    private static final int SEGMENT_SHIFT = 30;
+    private static final int HASH_OFFSET = 8;
+    private static final long EMPTY = 0;
+    private static final int RECORD_HEADER_SIZE = 12;
+    private final Path directory;
+    private final Codec<K> keyCodec;
+    private final Codec<V> valueCodec;
+    private final SyncType syncType;
+    private FileChannel indexChannel, logChannel;
+    private MappedByteBuffer header;
+    private MappedByteBuffer[] segments;
+    private int slotShift, slotMask;
+    private long logLength, deadBytes;
+    private int pendingWrites;
+
+
+    /**
+     * Constructor with the directory of the table, the files are created if they don't exist
+     *
+     * @param directory  Path
+     * @param keyCodec   Codec<K>
+     * @param valueCodec Codec<V>
+     * @throws IOException if the files cannot be opened or created
+     */
+    public PersistentHashTable(Path directory, Codec<K> keyCodec, Codec<V> valueCodec) throws IOException {
+        this(directory, keyCodec, valueCodec, SyncType.BATCH);
+    }
+
+    /**
+     * Constructor with the directory of the table and the sync type (always, batch, none)
+     *
+     * @param directory  Path
+     * @param keyCodec   Codec<K>
+     * @param valueCodec Codec<V>
+     * @param syncType   SyncType
+     * @throws IOException if the files cannot be opened or created
+     */
+    public PersistentHashTable(Path directory, Codec<K> keyCodec, Codec<V> valueCodec, SyncType syncType) throws IOException {
+        this.directory = directory;
+        this.keyCodec = keyCodec;
+        this.valueCodec = valueCodec;
+        this.syncType = syncType;
+        this.setLoadFactor(DEFAULT_LOAD_FACTOR);
+
+        Files.createDirectories(directory);
+        // Left by a compaction or an index resize that didn't complete
+        Files.deleteIfExists(directory.resolve(LOG_FILE + TMP_SUFFIX));
+        Files.deleteIfExists(directory.resolve(INDEX_FILE + TMP_SUFFIX));
+
+        this.logChannel = FileChannel.open(directory.resolve(LOG_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        if (!this.mapIndex()) this.rebuildIndex();
+
+        this.header.putInt(CLEAN_OFFSET, 0);
+        this.header.force();
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   K
+     * @param value V
+     */
+    @Override
+    public void add(K key, V value) {
+        this.checkOpen();
+        byte[] keyBytes = keyCodec.encode(key);
+        int hash = Arrays.hashCode(keyBytes);
+
+        try {
+            int slot = this.find(keyBytes, hash);
+            long offset = this.append(keyBytes, valueCodec.encode(value));
+
+            if (slot != -1) {
+                this.deadBytes += this.recordLength(this.offsetAt(slot));
+                this.setOffset(slot, offset);
+            } else {
+                this.insertSlot(hash, offset);
+                this.size++;
+
+                // Checking if we need to resize the index or not
+                if (this.size > this.threshold) {
+                    this.resizeIndex();
+                }
+            }
+
+            this.compactIfNeeded();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key K
+     * @return V | null
+     */
+    @Override
+    public V get(K key) {
+        this.checkOpen();
+        byte[] keyBytes = keyCodec.encode(key);
+
+        try {
+            int slot = this.find(keyBytes, Arrays.hashCode(keyBytes));
+            return slot == -1 ? null : valueCodec.decode(this.readValue(this.offsetAt(slot)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean put(K key, V value) {
+        this.checkOpen();
+        byte[] keyBytes = keyCodec.encode(key);
+
+        try {
+            int slot = this.find(keyBytes, Arrays.hashCode(keyBytes));
+            if (slot == -1) return false;
+
+            long offset = this.append(keyBytes, valueCodec.encode(value));
+            this.deadBytes += this.recordLength(this.offsetAt(slot));
+            this.setOffset(slot, offset);
+            this.compactIfNeeded();
+
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Removes the value mapped to the given key from the table and returns true,
+     * a removal record is appended to the log.
+     * If not key is found, it returns false.
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean remove(K key) {
+        this.checkOpen();
+        byte[] keyBytes = keyCodec.encode(key);
+
+        try {
+            int slot = this.find(keyBytes, Arrays.hashCode(keyBytes));
+            if (slot == -1) return false;
+
+            long offset = this.append(keyBytes, null);
+            this.deadBytes += this.recordLength(this.offsetAt(slot)) + (this.logLength - offset);
+            this.removeSlot(slot);
+            this.size--;
+            this.compactIfNeeded();
+
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies the live records to a new log that replaces the current one, dropping the overwritten
+     * and removed records. It is called automatically when the dead bytes are more than half of the log.
+     * The new offsets go into a new index file with the same slots, which replaces the current one after the log,
+     * so the compaction needs no memory proportional to the capacity
+     */
+    public void compact() {
+        this.checkOpen();
+        Path tmpLog = directory.resolve(LOG_FILE + TMP_SUFFIX), tmpIndex = directory.resolve(INDEX_FILE + TMP_SUFFIX);
+        // The current index keeps working on the old log until the new one has replaced it
+        FileChannel oldIndexChannel = this.indexChannel;
+        MappedByteBuffer oldHeader = this.header;
+        MappedByteBuffer[] oldSegments = this.segments;
+        FileChannel newLogChannel = null;
+        boolean switched = false;
+
+        try {
+            long length = 0;
+            this.createIndex(tmpIndex, this.capacity);
+
+            try (FileChannel out = FileChannel.open(tmpLog, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                int slot = 0;
+
+                for (MappedByteBuffer segment : oldSegments) {
+                    for (int position = 0; position < segment.capacity(); position += 1 << SLOT_SHIFT, slot++) {
+                        long offset = segment.getLong(position) - 1;
+                        if (offset == -1) continue;
+
+                        ByteBuffer record = this.read(offset, this.recordLength(offset));
+                        writeFully(out, record, length);
+                        this.setOffset(slot, length);
+                        this.setHash(slot, segment.getInt(position + HASH_OFFSET));
+                        length += record.capacity();
+                    }
+                }
+
+                out.force(true);
+            }
+
+            for (MappedByteBuffer segment : this.segments) {
+                segment.force();
+            }
+
+            this.header.force();
+
+            // Both indexes are dirty, if the process dies after the move the index is rebuilt from the new log
+            Files.move(tmpLog, directory.resolve(LOG_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            newLogChannel = FileChannel.open(directory.resolve(LOG_FILE), StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+            FileChannel oldLogChannel = this.logChannel;
+            this.logChannel = newLogChannel;
+            this.logLength = length;
+            this.deadBytes = 0;
+            this.pendingWrites = 0;
+            switched = true;
+
+            oldLogChannel.close();
+            oldIndexChannel.close();
+            Files.move(tmpIndex, directory.resolve(INDEX_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            FileChannel newIndexChannel = this.indexChannel;
+
+            try {
+                Files.deleteIfExists(tmpLog);
+
+                // Before the switch the old index and log channel are untouched, they keep working on the old records.
+                // After it the new index stays mapped from the tmp file, the dirty index file gets rebuilt on restart
+                if (!switched) {
+                    this.indexChannel = oldIndexChannel;
+                    this.header = oldHeader;
+                    this.segments = oldSegments;
+
+                    if (newIndexChannel != oldIndexChannel) newIndexChannel.close();
+                    Files.deleteIfExists(tmpIndex);
+                    if (newLogChannel != null) newLogChannel.close();
+                }
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the current length of the log in bytes
+     *
+     * @return long
+     */
+    public long logLength() {
+        return this.logLength;
+    }
+
+    /**
+     * Forces the log to the disk, writes the index header and marks the index as clean.
+     * Closing a closed table does nothing
+     *
+     * @throws IOException if the files cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.segments == null) return;
+
+        this.logChannel.force(true);
+        this.logChannel.close();
+
+        for (MappedByteBuffer segment : this.segments) {
+            segment.force();
+        }
+
+        this.header.putLong(SIZE_OFFSET, this.size);
+        this.header.putLong(LOG_LENGTH_OFFSET, this.logLength);
+        this.header.putLong(DEAD_BYTES_OFFSET, this.deadBytes);
+        this.header.putInt(CLEAN_OFFSET, 1);
+        this.header.force();
+        this.indexChannel.close();
+        this.segments = null;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        this.checkOpen();
+        System.out.println("HASH TABLE START:");
+
+        try {
+            for (int slot = 0; slot < this.capacity; slot++) {
+                long offset = this.offsetAt(slot);
+                String entry = null;
+
+                if (offset != -1) {
+                    ByteBuffer record = this.read(offset, this.recordLength(offset));
+                    byte[] keyBytes = new byte[record.getInt(4)], valueBytes = new byte[record.getInt(8)];
+                    record.position(RECORD_HEADER_SIZE);
+                    record.get(keyBytes).get(valueBytes);
+                    entry = "{key=" + keyCodec.decode(keyBytes) + ", value=" + valueCodec.decode(valueBytes) + "}";
+                }
+
+                System.out.println(slot + " : " + entry);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns the index slot of the given encoded key, -1 if the key is not inside the table.
+     * Only the slots with the same hash read their key from the log
+     *
+     * @param keyBytes byte[]
+     * @param hash     The hash of the encoded key
+     * @return int
+     * @throws IOException if the log cannot be read
+     */
+    private int find(byte[] keyBytes, int hash) throws IOException {
+        int mask = this.capacity - 1;
+        int slot = HashingType.mix(hash) & mask;
+
+        for (long offset = this.offsetAt(slot); offset != -1; offset = this.offsetAt(slot)) {
+            if (this.hashAt(slot) == hash && Arrays.equals(keyBytes, this.readKey(offset))) return slot;
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Puts the given hash and log offset inside the first empty slot of the probe sequence of the hash
+     *
+     * @param hash   int
+     * @param offset long
+     */
+    private void insertSlot(int hash, long offset) {
+        int mask = this.capacity - 1;
+        int slot = HashingType.mix(hash) & mask;
+
+        while (this.offsetAt(slot) != -1) slot = (slot + 1) & mask;
+
+        this.setOffset(slot, offset);
+        this.setHash(slot, hash);
+    }
+
+    /**
+     * Empties the given slot shifting backward the following slots of the cluster
+     *
+     * @param slot int
+     */
+    private void removeSlot(int slot) {
+        int mask = this.capacity - 1;
+        int hole = slot;
+        slot = (slot + 1) & mask;
+
+        for (long offset = this.offsetAt(slot); offset != -1; offset = this.offsetAt(slot)) {
+            int hash = this.hashAt(slot);
+            int home = HashingType.mix(hash) & mask;
+
+            // The slot can fill the hole only if its home slot does not lie between the hole and its current slot
+            if (((slot - home) & mask) >= ((slot - hole) & mask)) {
+                this.setOffset(hole, offset);
+                this.setHash(hole, hash);
+                hole = slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        this.segment(hole).putLong(this.position(hole), EMPTY);
+    }
+
+    private MappedByteBuffer segment(int slot) {
+        return this.segments[slot >>> this.slotShift];
+    }
+
+    private int position(int slot) {
+        return (slot & this.slotMask) << SLOT_SHIFT;
+    }
+
+    /**
+     * Returns the log offset of the given slot, -1 if the slot is empty
+     *
+     * @param slot int
+     * @return long
+     */
+    private long offsetAt(int slot) {
+        return this.segment(slot).getLong(this.position(slot)) - 1;
+    }
+
+    private void setOffset(int slot, long offset) {
+        this.segment(slot).putLong(this.position(slot), offset + 1);
+    }
+
+    private int hashAt(int slot) {
+        return this.segment(slot).getInt(this.position(slot) + HASH_OFFSET);
+    }
+
+    private void setHash(int slot, int hash) {
+        this.segment(slot).putInt(this.position(slot) + HASH_OFFSET, hash);
+    }
+
+    /**
+     * Appends a record to the log and syncs it according to the sync type
+     *
+     * @param keyBytes   byte[]
+     * @param valueBytes byte[], null for a removal record
+     * @return The offset of the record
+     * @throws IOException if the log cannot be written
+     */
+    private long append(byte[] keyBytes, byte[] valueBytes) throws IOException {
+        int valueLength = valueBytes == null ? 0 : valueBytes.length;
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + keyBytes.length + valueLength);
+        record.putInt(0).putInt(keyBytes.length).putInt(valueBytes == null ? -1 : valueLength).put(keyBytes);
+        if (valueBytes != null) record.put(valueBytes);
+        record.putInt(0, checksum(record));
+        record.flip();
+
+        long offset = this.logLength;
+        writeFully(this.logChannel, record, offset);
+        this.logLength += record.capacity();
+
+        if (this.syncType == SyncType.ALWAYS || (this.syncType == SyncType.BATCH && ++this.pendingWrites == SYNC_BATCH)) {
+            this.logChannel.force(false);
+            this.pendingWrites = 0;
+        }
+
+        return offset;
+    }
+
+    /**
+     * Returns the length in bytes of the record at the given log offset
+     *
+     * @param offset long
+     * @return int
+     * @throws IOException if the log cannot be read
+     */
+    private int recordLength(long offset) throws IOException {
+        ByteBuffer recordHeader = this.read(offset, RECORD_HEADER_SIZE);
+        return RECORD_HEADER_SIZE + recordHeader.getInt(4) + Math.max(0, recordHeader.getInt(8));
+    }
+
+    private byte[] readKey(long offset) throws IOException {
+        int keyLength = this.read(offset + 4, Integer.BYTES).getInt(0);
+        return this.read(offset + RECORD_HEADER_SIZE, keyLength).array();
+    }
+
+    private byte[] readValue(long offset) throws IOException {
+        ByteBuffer recordHeader = this.read(offset, RECORD_HEADER_SIZE);
+        return this.read(offset + RECORD_HEADER_SIZE + recordHeader.getInt(4), recordHeader.getInt(8)).array();
+    }
+
+    /**
+     * Reads the given number of bytes of the log, starting from the given offset
+     *
+     * @param offset long
+     * @param length int
+     * @return ByteBuffer
+     * @throws IOException if the log cannot be read or it ends before
+     */
+    private ByteBuffer read(long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+
+        while (buffer.hasRemaining()) {
+            if (this.logChannel.read(buffer, offset + buffer.position()) == -1)
+                throw new IOException("Unexpected end of the log at offset " + offset);
+        }
+
+        return buffer;
+    }
+
+    /**
+     * Maps the existing index file, it returns false if the index is missing, corrupted, not clean
+     * or not aligned with the log (it then needs to be rebuilt)
+     *
+     * @return boolean
+     * @throws IOException if the index file cannot be opened
+     */
+    private boolean mapIndex() throws IOException {
+        Path path = directory.resolve(INDEX_FILE);
+        if (!Files.exists(path) || Files.size(path) < HEADER_SIZE) return false;
+
+        this.indexChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.header = this.indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        int capacity = this.header.getInt(CAPACITY_OFFSET);
+
+        boolean valid = this.header.getInt(MAGIC_OFFSET) == MAGIC && this.header.getInt(VERSION_OFFSET) == VERSION
+                && this.header.getInt(CLEAN_OFFSET) == 1 && Integer.bitCount(capacity) == 1
+                && this.indexChannel.size() == HEADER_SIZE + ((long) capacity << SLOT_SHIFT)
+                && this.header.getLong(LOG_LENGTH_OFFSET) == this.logChannel.size();
+
+        if (!valid) {
+            this.indexChannel.close();
+            return false;
+        }
+
+        this.mapSlots(capacity);
+        this.size = (int) this.header.getLong(SIZE_OFFSET);
+        this.logLength = this.header.getLong(LOG_LENGTH_OFFSET);
+        this.deadBytes = this.header.getLong(DEAD_BYTES_OFFSET);
+
+        return true;
+    }
+
+    /**
+     * Creates a new empty index file with the given capacity and maps it
+     *
+     * @param path     Path
+     * @param capacity int
+     * @throws IOException if the file cannot be created
+     */
+    private void createIndex(Path path, int capacity) throws IOException {
+        this.indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.header = this.indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+        this.header.putInt(MAGIC_OFFSET, MAGIC);
+        this.header.putInt(VERSION_OFFSET, VERSION);
+        this.header.putInt(CAPACITY_OFFSET, capacity);
+        this.mapSlots(capacity);
+    }
+
+    /**
+     * Maps the slots of the index in segments of at most 2^SEGMENT_SHIFT bytes
+     *
+     * @param capacity int
+     * @throws IOException if the file cannot be mapped
+     */
+    private void mapSlots(int capacity) throws IOException {
+        this.capacity = capacity;
+        this.threshold = thresholdOf(capacity, this.loadFactor);
+        this.slotShift = Math.min(SEGMENT_SHIFT - SLOT_SHIFT, Integer.numberOfTrailingZeros(capacity));
+        this.slotMask = (1 << this.slotShift) - 1;
+        this.segments = new MappedByteBuffer[capacity >>> this.slotShift];
+        long segmentSize = (long) (this.slotMask + 1) << SLOT_SHIFT;
+
+        for (int i = 0; i < this.segments.length; i++) {
+            this.segments[i] = this.indexChannel.map(FileChannel.MapMode.READ_WRITE, HEADER_SIZE + i * segmentSize, segmentSize);
+        }
+    }
+
+    /**
+     * Rebuilds the index replaying the log from the start, the log is truncated at the first record
+     * that is incomplete or whose checksum doesn't match (the write was interrupted by a crash)
+     *
+     * @throws IOException if the files cannot be read or written
+     */
+    private void rebuildIndex() throws IOException {
+        this.createIndex(directory.resolve(INDEX_FILE), tableSizeFor(DEFAULT_EXPECTED_SIZE, this.loadFactor));
+        this.size = 0;
+        this.deadBytes = 0;
+
+        long fileSize = this.logChannel.size();
+        long offset = 0;
+
+        while (offset + RECORD_HEADER_SIZE <= fileSize) {
+            ByteBuffer recordHeader = this.read(offset, RECORD_HEADER_SIZE);
+            int keyLength = recordHeader.getInt(4), valueLength = recordHeader.getInt(8);
+            long length = (long) RECORD_HEADER_SIZE + keyLength + Math.max(0, valueLength);
+
+            if (keyLength < 0 || valueLength < -1 || offset + length > fileSize) break;
+
+            ByteBuffer record = this.read(offset, (int) length);
+            if (checksum(record) != record.getInt(0)) break;
+
+            byte[] keyBytes = Arrays.copyOfRange(record.array(), RECORD_HEADER_SIZE, RECORD_HEADER_SIZE + keyLength);
+            int hash = Arrays.hashCode(keyBytes);
+            int slot = this.find(keyBytes, hash);
+
+            if (slot != -1) this.deadBytes += this.recordLength(this.offsetAt(slot));
+
+            if (valueLength == -1) {
+                this.deadBytes += length;
+
+                if (slot != -1) {
+                    this.removeSlot(slot);
+                    this.size--;
+                }
+            } else if (slot != -1) {
+                this.setOffset(slot, offset);
+            } else {
+                this.insertSlot(hash, offset);
+                this.size++;
+
+                if (this.size > this.threshold) {
+                    this.resizeIndex();
+                }
+            }
+
+            offset += length;
+        }
+
+        this.logChannel.truncate(offset);
+        this.logChannel.force(true);
+        this.logLength = offset;
+    }
+
+    /**
+     * Doubles the capacity of the index: a new index file is filled reusing the hashes stored inside the slots
+     * (the log is not read) and then it atomically replaces the current one
+     *
+     * @throws IOException if the index cannot be written
+     */
+    private void resizeIndex() throws IOException {
+        MappedByteBuffer[] oldSegments = this.segments;
+        FileChannel oldChannel = this.indexChannel;
+        Path tmp = directory.resolve(INDEX_FILE + TMP_SUFFIX);
+
+        this.createIndex(tmp, this.capacity * 2);
+
+        for (MappedByteBuffer segment : oldSegments) {
+            for (int position = 0; position < segment.capacity(); position += 1 << SLOT_SHIFT) {
+                long offset = segment.getLong(position) - 1;
+                if (offset != -1) this.insertSlot(segment.getInt(position + HASH_OFFSET), offset);
+            }
+        }
+
+        oldChannel.close();
+        Files.move(tmp, directory.resolve(INDEX_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void compactIfNeeded() {
+        if (this.logLength >= COMPACTION_MIN_BYTES && this.deadBytes * 2 > this.logLength) {
+            this.compact();
+        }
+    }
+
+    private void checkOpen() {
+        if (this.segments == null) throw new IllegalStateException("The table has been closed");
+    }
+
+    /**
+     * Returns the checksum of the given record, the checksum field excluded
+     *
+     * @param record ByteBuffer
+     * @return int
+     */
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), Integer.BYTES, record.capacity() - Integer.BYTES);
+        return (int) crc.getValue();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        buffer.rewind();
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, position + buffer.position());
+        }
+    }
+}
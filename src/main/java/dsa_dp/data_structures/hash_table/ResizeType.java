@@ -0,0 +1,6 @@
+package dsa_dp.data_structures.hash_table;
+
+public enum ResizeType {
+    FULL,
+    INCREMENTAL,
+}
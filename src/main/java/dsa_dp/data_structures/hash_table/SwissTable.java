@@ -0,0 +1,301 @@
+package dsa_dp.data_structures.hash_table;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash table in the Swiss table style.
+ * Every slot has a control byte, 8 control bytes are packed into a long so that a whole group of 8 slots
+ * is checked with a few bitwise operations (SWAR: SIMD within a register):
+ * - EMPTY (0x80) the slot has never been used since the last rehash
+ * - DELETED (0xFE) the slot held a removed key
+ * - FULL (0x00 - 0x7F) the slot holds a key, the byte stores 7 bits of its hash (H2)
+ * The other bits of the hash (H1) choose the first group to scan, the groups are then scanned with quadratic
+ * (triangular) probing. A lookup compares only the keys whose H2 matches, which means ~1/128 false comparisons,
+ * and it stops at the first group containing an EMPTY slot, so most negative lookups read a single control word
+ * and never touch a key.
+ * Keys and values live in two flat arrays, no Entry object is allocated.
+ */
+public class SwissTable<K, V> extends HashTable<K, V> {
+    private static final int DEFAULT_EXPECTED_SIZE = 16;
+    private static final float DEFAULT_LOAD_FACTOR = 0.875f;
+    private static final int GROUP_SIZE = 8;
+    private static final long EMPTY = 0x80, DELETED = 0xFE;
+    private static final long LSB = 0x0101010101010101L, MSB = 0x8080808080808080L;
+    private long[] control;
+    private Object[] keys, values;
+    // Number of slots that are not EMPTY, the DELETED ones still lengthen the probe sequences until the next rehash
+    private int used;
+
+
+    /**
+     * Default constructor
+     */
+    public SwissTable() {
+        this(DEFAULT_EXPECTED_SIZE, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with the number of mappings expected, the table won't need any resize to hold them
+     *
+     * @param expectedSize int
+     */
+    public SwissTable(int expectedSize) {
+        this(expectedSize, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructor with given expected size and load factor
+     *
+     * @param expectedSize int
+     * @param loadFactor   float
+     */
+    public SwissTable(int expectedSize, float loadFactor) {
+        this.setLoadFactor(loadFactor);
+        this.initTable(Math.max(GROUP_SIZE, tableSizeFor(expectedSize, this.loadFactor)));
+    }
+
+    /**
+     * Inserts a new mapping into the table, if the key is already inside the table its value gets replaced
+     *
+     * @param key   K
+     * @param value V
+     * @throws IllegalStateException if the table would need to grow beyond 2^30 slots
+     */
+    @Override
+    public void add(K key, V value) {
+        int hash = HashingType.mix(key.hashCode());
+        int index = this.find(key, hash);
+
+        if (index != -1) {
+            values[index] = value;
+            return;
+        }
+
+        // Rehashing before the insertion, so that the slot found below is still valid
+        this.checkGrowth();
+        if (this.used >= this.threshold) {
+            this.resizeTable();
+        }
+
+        index = this.findFreeSlot(hash);
+        if (this.controlByte(index) == EMPTY) this.used++;
+
+        this.setControlByte(index, hash & 0x7F);
+        keys[index] = key;
+        values[index] = value;
+        this.size++;
+    }
+
+    /**
+     * Returns the value to which the given key is mapped
+     * returns null if this table does not contain a mapping for the given key
+     *
+     * @param key K
+     * @return V | null
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(K key) {
+        int index = this.find(key, HashingType.mix(key.hashCode()));
+        return index == -1 ? null : (V) values[index];
+    }
+
+    /**
+     * Updates the value of the given key if it finds it inside the table,
+     * it returns false if no key value is updated
+     *
+     * @return boolean
+     */
+    @Override
+    public boolean put(K key, V value) {
+        int index = this.find(key, HashingType.mix(key.hashCode()));
+        if (index == -1) return false;
+
+        values[index] = value;
+        return true;
+    }
+
+    /**
+     * Returns whether the table contains a mapping for the given key or not
+     *
+     * @param key K
+     * @return boolean
+     */
+    public boolean containsKey(K key) {
+        return this.find(key, HashingType.mix(key.hashCode())) != -1;
+    }
+
+    /**
+     * Removes the mapping of the given key from the table and returns true.
+     * The slot becomes EMPTY if its group still contains an EMPTY slot (no probe sequence can continue past
+     * that group), DELETED otherwise.
+     * If not key is found, it returns false.
+     *
+     * @param key K
+     * @return boolean
+     */
+    @Override
+    public boolean remove(K key) {
+        int index = this.find(key, HashingType.mix(key.hashCode()));
+        if (index == -1) return false;
+
+        if (matchEmpty(control[index / GROUP_SIZE]) != 0) {
+            this.setControlByte(index, EMPTY);
+            this.used--;
+        } else {
+            this.setControlByte(index, DELETED);
+        }
+
+        keys[index] = null;
+        values[index] = null;
+        this.size--;
+
+        return true;
+    }
+
+    /**
+     * Prints the HashTable in a suitable format
+     */
+    @Override
+    public void print() {
+        System.out.println("HASH TABLE START:");
+
+        for (int i = 0; i < this.capacity; i++) {
+            long b = this.controlByte(i);
+            String slot = b == EMPTY ? null : b == DELETED ? "DELETED" : "{key=" + keys[i] + ", value=" + values[i] + "}";
+            System.out.println(i + " : " + slot);
+        }
+    }
+
+    /**
+     * Returns the slot of the given key, -1 if the key is not inside the table
+     *
+     * @param key  K
+     * @param hash The mixed hash of the key
+     * @return int
+     */
+    private int find(K key, int hash) {
+        int groupMask = control.length - 1;
+        int group = (hash >>> 7) & groupMask;
+
+        for (int step = 1; ; step++) {
+            long word = control[group];
+
+            for (long matches = matchByte(word, hash & 0x7F); matches != 0; matches &= matches - 1) {
+                int index = group * GROUP_SIZE + (Long.numberOfTrailingZeros(matches) >>> 3);
+                if (key.equals(keys[index])) return index;
+            }
+
+            // The insertion would have used this group, the key cannot be further
+            if (matchEmpty(word) != 0) return -1;
+
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * Returns the first EMPTY or DELETED slot along the probe sequence of the given hash
+     *
+     * @param hash The mixed hash of the key
+     * @return int
+     */
+    private int findFreeSlot(int hash) {
+        int groupMask = control.length - 1;
+        int group = (hash >>> 7) & groupMask;
+
+        for (int step = 1; ; step++) {
+            long free = control[group] & MSB; // EMPTY and DELETED are the only bytes with the highest bit set
+
+            if (free != 0) return group * GROUP_SIZE + (Long.numberOfTrailingZeros(free) >>> 3);
+
+            group = (group + step) & groupMask;
+        }
+    }
+
+    /**
+     * Returns a word having the highest bit set in every byte of the given control word equal to 'b'.
+     * It may report false positives right above a real match (borrow propagation), they're discarded
+     * by the key comparison
+     *
+     * @param word Control word
+     * @param b    The byte to look for
+     * @return long
+     */
+    private static long matchByte(long word, long b) {
+        long x = word ^ (LSB * b); // The matching bytes become zero
+        return (x - LSB) & ~x & MSB;
+    }
+
+    /**
+     * Returns a word having the highest bit set in every EMPTY byte of the given control word,
+     * EMPTY being the only byte with the highest bit set and the second one clear
+     *
+     * @param word Control word
+     * @return long
+     */
+    private static long matchEmpty(long word) {
+        return word & ~(word << 1) & MSB;
+    }
+
+    /**
+     * Returns the control byte of the given slot
+     *
+     * @param index int
+     * @return long
+     */
+    private long controlByte(int index) {
+        return (control[index / GROUP_SIZE] >>> ((index % GROUP_SIZE) * 8)) & 0xFF;
+    }
+
+    /**
+     * Sets the control byte of the given slot
+     *
+     * @param index int
+     * @param b     long
+     */
+    private void setControlByte(int index, long b) {
+        int shift = (index % GROUP_SIZE) * 8;
+        control[index / GROUP_SIZE] = (control[index / GROUP_SIZE] & ~(0xFFL << shift)) | (b << shift);
+    }
+
+    /**
+     * Initializes a new empty table with the given capacity (a power of two, at least one group)
+     *
+     * @param capacity int
+     */
+    private void initTable(int capacity) {
+        this.capacity = capacity;
+        this.threshold = thresholdOf(capacity, this.loadFactor);
+        this.control = new long[capacity / GROUP_SIZE];
+        this.keys = new Object[capacity];
+        this.values = new Object[capacity];
+        this.used = 0;
+
+        Arrays.fill(control, LSB * EMPTY);
+    }
+
+    /**
+     * Re hashes all the elements inside a new table, doubling its size unless the table is full
+     * mostly because of DELETED slots, in that case the size stays the same and the DELETED slots are dropped.
+     * At MAXIMUM_CAPACITY the table never doubles, add() has already checked that the live entries fit
+     */
+    private void resizeTable() {
+        Object[] oldKeys = this.keys, oldValues = this.values;
+        long[] oldControl = this.control;
+
+        boolean grow = this.size >= this.threshold / 2 && this.capacity < MAXIMUM_CAPACITY;
+        this.initTable(grow ? this.capacity * 2 : this.capacity);
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (((oldControl[i / GROUP_SIZE] >>> ((i % GROUP_SIZE) * 8)) & 0x80) != 0) continue;
+
+            int hash = HashingType.mix(oldKeys[i].hashCode());
+            int index = this.findFreeSlot(hash);
+
+            this.setControlByte(index, hash & 0x7F);
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+            this.used++;
+        }
+    }
+}
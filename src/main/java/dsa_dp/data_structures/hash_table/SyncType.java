@@ -0,0 +1,14 @@
+package dsa_dp.data_structures.hash_table;
+
+/**
+ * When a persistent table forces its writes to the disk.
+ * - ALWAYS: after every write, an acknowledged write survives a machine crash
+ * - BATCH: every PersistentHashTable.SYNC_BATCH writes and on close, a machine crash loses at most the last batch
+ * - NONE: only on close, the OS decides when the data reaches the disk
+ * A crash of the process alone never loses an acknowledged write, the OS still holds the written pages.
+ */
+public enum SyncType {
+    ALWAYS,
+    BATCH,
+    NONE,
+}
@@ -25,12 +25,8 @@ public abstract class AbstractBinaryHeap<T extends Comparable<T>> {
      * @return T
      */
     protected T getLeftChild(int index) {
-        try {
-            return heap.get((index * 2) + 1);
-        } catch (Exception e) {
-            return null;
-        }
-
+        int child = (index * 2) + 1;
+        return child < heap.size() ? heap.get(child) : null;
     }
 
     /**
@@ -40,11 +36,8 @@ public abstract class AbstractBinaryHeap<T extends Comparable<T>> {
      * @return T
      */
     protected T getRightChild(int index) {
-        try {
-            return heap.get((index * 2) + 2);
-        } catch (Exception e) {
-            return null;
-        }
+        int child = (index * 2) + 2;
+        return child < heap.size() ? heap.get(child) : null;
     }
 
     /**
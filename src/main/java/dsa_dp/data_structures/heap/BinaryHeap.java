@@ -7,7 +7,7 @@ import java.util.*;
  *
  * @param <T>
  */
-public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
+public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> implements Heap<T> {
     public final HashMap<T, Set<Integer>> trackingTable;
 
 
@@ -57,7 +57,7 @@ public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
      * @return T
      */
     public T poll() {
-        return remove(heap.get(0));
+        return !heap.isEmpty() ? remove(heap.get(0)) : null;
     }
 
     /**
@@ -72,7 +72,7 @@ public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
         T res = null;
         Set<Integer> tempSet = trackingTable.get(value);
 
-        if (heap.size() > 1 && tempSet != null) {
+        if (!heap.isEmpty() && tempSet != null) {
             int index = !tempSet.isEmpty() ? tempSet.iterator().next() : -1;
             swap(index, heap.size() - 1);
             res = heap.remove(heap.size() - 1);
@@ -81,16 +81,17 @@ public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
             if (trackingTable.get(res).size() <= 1) {
                 trackingTable.remove(res);
             } else {
-                trackingTable.get(res).remove(heap.size() - 1);
+                // The removed element was at the old last index, which is the current size
+                trackingTable.get(res).remove(heap.size());
             }
 
-            // If the given index is not a leaf node
-            // We check if we need to bubbleUp or Down after the removal
-            if (getLeftChild(index) != null) {
-                if (index == 0 || getParentNode(index).compareTo(heap.get(index)) < 0) {
-                    bubbleDown(index);
-                } else if (getParentNode(index).compareTo(heap.get(index)) > 0) {
+            // If the removed element was not the last one
+            // We check if we need to bubbleUp or Down the element moved in its place
+            if (index < heap.size()) {
+                if (index > 0 && getParentNode(index).compareTo(heap.get(index)) > 0) {
                     bubbleUp(index);
+                } else {
+                    bubbleDown(index);
                 }
             }
         }
@@ -119,6 +120,15 @@ public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
         return !heap.isEmpty() ? heap.get(0) : null;
     }
 
+    /**
+     * Returns the number of elements inside the heap
+     *
+     * @return int
+     */
+    public int size() {
+        return heap.size();
+    }
+
     /**
      * 'Moves up' the element at the given index until the Heap satisfies the Heap Invariant rule
      * O(log n)
@@ -162,8 +172,11 @@ public class BinaryHeap<T extends Comparable<T>> extends AbstractBinaryHeap<T> {
         heap.set(i, tempValue2);
         heap.set(j, tempValue1);
 
-        // Switching the indexes in the tracking table accordingly
+        // Duplicates share the same index set, which doesn't change
         Set<Integer> tempSet = trackingTable.get(tempValue1);
+        if (tempSet == trackingTable.get(tempValue2)) return;
+
+        // Switching the indexes in the tracking table accordingly
         tempSet.remove(i);
         tempSet.add(j);
         tempSet = trackingTable.get(tempValue2);
@@ -0,0 +1,222 @@
+package dsa_dp.data_structures.heap;
+
+import java.util.Arrays;
+
+/**
+ * MIN d-ary Heap stored in a plain array (4 children per node by default).
+ * Compared to a binary heap the tree has half the levels, so insert moves the element up fewer times, and the
+ * children of a node are contiguous in memory: sift down reads them from the same cache line.
+ * The hole technique is used on both sift paths, the moving element is written once at its final position
+ * instead of being swapped at every level.
+ * There is no index tracking table, so contains and remove of an arbitrary element are O(n), the common
+ * insert / poll path doesn't pay for keeping it up to date.
+ *
+ * @param <T>
+ */
+public class DaryHeap<T extends Comparable<T>> implements Heap<T> {
+    private static final int DEFAULT_SIZE = 16;
+    private static final int DEFAULT_ARITY = 4;
+    private final int arity;
+    private Object[] heap;
+    private int size;
+
+
+    /**
+     * Default Constructor
+     */
+    public DaryHeap() {
+        this(DEFAULT_SIZE, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor with given size
+     *
+     * @param size int
+     */
+    public DaryHeap(int size) {
+        this(size, DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructor with given size and number of children per node
+     *
+     * @param size  int
+     * @param arity int
+     */
+    public DaryHeap(int size, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("arity must be at least 2");
+
+        this.arity = arity;
+        this.heap = new Object[Math.max(size, 2)];
+    }
+
+    /**
+     * Inserts a new element into the heap and adjusts the Heap
+     * to satisfy the Heap Invariant rule
+     * O(log_d n)
+     *
+     * @param data T
+     */
+    public void insert(T data) {
+        if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+
+        siftUp(size++, data);
+    }
+
+    /**
+     * Removes and returns the first element of the Heap
+     * O(d log_d n)
+     *
+     * @return T | null if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        if (size == 0) return null;
+
+        T res = (T) heap[0];
+        removeAt(0);
+
+        return res;
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of the Heap
+     *
+     * @return T | null if the heap is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T peek() {
+        return size > 0 ? (T) heap[0] : null;
+    }
+
+    /**
+     * Removes a single instance of the given element
+     * O(n)
+     *
+     * @param data T
+     * @return T | null if the element is not present
+     */
+    @SuppressWarnings("unchecked")
+    public T remove(T data) {
+        int index = indexOf(data);
+        if (index == -1) return null;
+
+        T res = (T) heap[index];
+        removeAt(index);
+
+        return res;
+    }
+
+    /**
+     * Returns whether the heap contains the given value or not
+     * O(n)
+     *
+     * @param data T
+     * @return boolean
+     */
+    public boolean contains(T data) {
+        return indexOf(data) != -1;
+    }
+
+    /**
+     * Returns the number of elements inside the heap
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prints the array used as heap in a linear format
+     */
+    public void linearPrint() {
+        System.out.println(Arrays.toString(Arrays.copyOf(heap, size)));
+    }
+
+    /**
+     * Returns the index of the given element, -1 if it is not present
+     *
+     * @param data T
+     * @return int
+     */
+    private int indexOf(T data) {
+        for (int i = 0; i < size; i++) {
+            if (heap[i].equals(data)) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Fills the hole at the given index with the last element and restores the Heap Invariant rule
+     *
+     * @param index int
+     */
+    @SuppressWarnings("unchecked")
+    private void removeAt(int index) {
+        T last = (T) heap[--size];
+        heap[size] = null; // Letting the GC collect the element
+
+        if (index == size) return;
+
+        if (index > 0 && ((T) heap[(index - 1) / arity]).compareTo(last) > 0) {
+            siftUp(index, last);
+        } else {
+            siftDown(index, last);
+        }
+    }
+
+    /**
+     * Moves the hole at the given index up until the parent is not greater than the data, then fills it
+     *
+     * @param index int
+     * @param data  T
+     */
+    @SuppressWarnings("unchecked")
+    private void siftUp(int index, T data) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            T parentData = (T) heap[parent];
+            if (parentData.compareTo(data) <= 0) break;
+
+            heap[index] = parentData;
+            index = parent;
+        }
+
+        heap[index] = data;
+    }
+
+    /**
+     * Moves the hole at the given index down until the smallest child is not lower than the data, then fills it
+     *
+     * @param index int
+     * @param data  T
+     */
+    @SuppressWarnings("unchecked")
+    private void siftDown(int index, T data) {
+        int child;
+
+        while ((child = index * arity + 1) < size) {
+            // Lowest of the (up to) arity contiguous children
+            int end = Math.min(child + arity, size);
+            T lower = (T) heap[child];
+
+            for (int i = child + 1; i < end; i++) {
+                T candidate = (T) heap[i];
+
+                if (candidate.compareTo(lower) < 0) {
+                    lower = candidate;
+                    child = i;
+                }
+            }
+
+            if (lower.compareTo(data) >= 0) break;
+
+            heap[index] = lower;
+            index = child;
+        }
+
+        heap[index] = data;
+    }
+}
@@ -0,0 +1,67 @@
+package dsa_dp.data_structures.heap;
+
+/**
+ * MIN Heap contract shared by the heap implementations
+ *
+ * @param <T>
+ */
+public interface Heap<T extends Comparable<T>> {
+
+    /**
+     * Inserts a new element into the heap
+     *
+     * @param data T
+     */
+    void insert(T data);
+
+    /**
+     * Removes and returns the first element of the Heap, or returns null if the heap is empty
+     *
+     * @return T
+     */
+    T poll();
+
+    /**
+     * Retrieves, but does not remove, the first element of the Heap, or returns null if the heap is empty
+     *
+     * @return T
+     */
+    T peek();
+
+    /**
+     * Removes a single instance of the given element, if it is present
+     *
+     * @param data T
+     * @return T | null if the element is not present
+     */
+    T remove(T data);
+
+    /**
+     * Returns whether the heap contains the given value or not
+     *
+     * @param data T
+     * @return boolean
+     */
+    boolean contains(T data);
+
+    /**
+     * Returns the number of elements inside the heap
+     *
+     * @return int
+     */
+    int size();
+
+    /**
+     * Returns true if the heap has no elements
+     *
+     * @return boolean
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Prints the heap elements in a linear format
+     */
+    void linearPrint();
+}
@@ -0,0 +1,7 @@
+package dsa_dp.data_structures.heap;
+
+public enum HeapType {
+    BINARY,
+    DARY,
+    PAIRING,
+}
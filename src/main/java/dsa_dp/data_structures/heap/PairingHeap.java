@@ -0,0 +1,314 @@
+package dsa_dp.data_structures.heap;
+
+import java.util.ArrayList;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * MIN Pairing Heap: a multi-way tree where each node points to its first child and to its next sibling.
+ * - insert and meld are O(1): the greater root becomes the first child of the lower one
+ * - poll is O(log n) amortized: the children of the root are paired left to right, then merged right to left
+ * - decreaseKey is O(log n) amortized (o(log n) in practice): the node's subtree is cut and melded with the root
+ * insertNode returns the Node handle needed by decreaseKey and remove(Node).
+ * There is no index tracking table, so contains and remove of an arbitrary value are O(n).
+ *
+ * @param <T>
+ */
+public class PairingHeap<T extends Comparable<T>> implements Heap<T> {
+    private Node<T> root;
+    private int size;
+
+
+    /**
+     * Inserts a new element into the heap
+     * O(1)
+     *
+     * @param data T
+     */
+    public void insert(T data) {
+        insertNode(data);
+    }
+
+    /**
+     * Inserts a new element into the heap and returns its node
+     * O(1)
+     *
+     * @param data T
+     * @return Node<T>
+     */
+    public Node<T> insertNode(T data) {
+        Node<T> node = new Node<>(data);
+        root = merge(root, node);
+        size++;
+
+        return node;
+    }
+
+    /**
+     * Moves all the elements of the given heap into this one, leaving the other heap empty
+     * O(1)
+     *
+     * @param other PairingHeap<T>
+     */
+    public void meld(PairingHeap<T> other) {
+        if (other == this) return;
+
+        root = merge(root, other.root);
+        size += other.size;
+        other.root = null;
+        other.size = 0;
+    }
+
+    /**
+     * Removes and returns the first element of the Heap
+     * O(log n) amortized
+     *
+     * @return T | null if the heap is empty
+     */
+    public T poll() {
+        if (root == null) return null;
+
+        Node<T> polled = root;
+        root = mergePairs(polled.child);
+        if (root != null) root.prev = null;
+        polled.child = null;
+        size--;
+
+        return polled.data;
+    }
+
+    /**
+     * Retrieves, but does not remove, the first element of the Heap
+     *
+     * @return T | null if the heap is empty
+     */
+    public T peek() {
+        return root != null ? root.data : null;
+    }
+
+    /**
+     * Replaces the value of the given node with a lower (or equal) one
+     * O(log n) amortized
+     *
+     * @param node Node<T>
+     * @param data T
+     * @throws IllegalArgumentException if the new value is greater than the current one
+     */
+    public void decreaseKey(Node<T> node, T data) {
+        if (data.compareTo(node.data) > 0) throw new IllegalArgumentException("The new value is greater than the current one");
+
+        node.data = data;
+        if (node == root) return;
+
+        cut(node);
+        root = merge(root, node);
+    }
+
+    /**
+     * Removes the given node from the heap
+     * O(log n) amortized
+     *
+     * @param node Node<T>
+     * @return T
+     */
+    public T remove(Node<T> node) {
+        if (node == root) return poll();
+
+        cut(node);
+        Node<T> subtree = mergePairs(node.child);
+        if (subtree != null) subtree.prev = null;
+
+        node.child = null;
+        root = merge(root, subtree);
+        size--;
+
+        return node.data;
+    }
+
+    /**
+     * Removes a single instance of the given element
+     * O(n)
+     *
+     * @param data T
+     * @return T | null if the element is not present
+     */
+    public T remove(T data) {
+        Node<T> node = find(data);
+        return node != null ? remove(node) : null;
+    }
+
+    /**
+     * Returns whether the heap contains the given value or not
+     * O(n)
+     *
+     * @param data T
+     * @return boolean
+     */
+    public boolean contains(T data) {
+        return find(data) != null;
+    }
+
+    /**
+     * Returns the number of elements inside the heap
+     *
+     * @return int
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Prints the heap elements in a linear (pre order) format
+     */
+    public void linearPrint() {
+        StringJoiner sj = new StringJoiner(", ", "[", "]");
+        forEachNode(node -> sj.add(String.valueOf(node.data)));
+        System.out.println(sj);
+    }
+
+    /**
+     * Returns the first node holding the given value, null if it is not present
+     *
+     * @param data T
+     * @return Node<T>
+     */
+    private Node<T> find(T data) {
+        ArrayList<Node<T>> found = new ArrayList<>(1);
+
+        forEachNode(node -> {
+            if (found.isEmpty() && node.data.equals(data)) found.add(node);
+        });
+
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Visits all the nodes in pre order, without recursion since the tree can be very deep
+     *
+     * @param visitor Consumer<Node<T>>
+     */
+    private void forEachNode(Consumer<Node<T>> visitor) {
+        ArrayList<Node<T>> stack = new ArrayList<>();
+        if (root != null) stack.add(root);
+
+        while (!stack.isEmpty()) {
+            Node<T> node = stack.remove(stack.size() - 1);
+            visitor.accept(node);
+
+            if (node.next != null) stack.add(node.next);
+            if (node.child != null) stack.add(node.child);
+        }
+    }
+
+    /**
+     * Detaches the given node (with its subtree) from its parent or previous sibling
+     *
+     * @param node Node<T>
+     */
+    private void cut(Node<T> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.next;
+        } else {
+            node.prev.next = node.next;
+        }
+
+        if (node.next != null) node.next.prev = node.prev;
+
+        node.prev = null;
+        node.next = null;
+    }
+
+    /**
+     * Links two roots, the greater one becomes the first child of the other
+     *
+     * @param a Node<T>
+     * @param b Node<T>
+     * @return The root of the resulting tree
+     */
+    private Node<T> merge(Node<T> a, Node<T> b) {
+        if (a == null) return b;
+        if (b == null) return a;
+
+        if (b.data.compareTo(a.data) < 0) {
+            Node<T> temp = a;
+            a = b;
+            b = temp;
+        }
+
+        b.prev = a;
+        b.next = a.child;
+        if (a.child != null) a.child.prev = b;
+        a.child = b;
+
+        return a;
+    }
+
+    /**
+     * Two pass merge of a list of siblings: pairs them left to right, then merges the pairs right to left.
+     * Iterative, the pairs are chained through the prev pointer while going forward
+     *
+     * @param first Node<T>
+     * @return The root of the resulting tree
+     */
+    private Node<T> mergePairs(Node<T> first) {
+        if (first == null) return null;
+
+        Node<T> pairs = null;
+
+        while (first != null) {
+            Node<T> a = first, b = a.next;
+            first = b != null ? b.next : null;
+
+            a.next = null;
+            a.prev = null;
+            if (b != null) {
+                b.next = null;
+                b.prev = null;
+            }
+
+            Node<T> pair = merge(a, b);
+            pair.prev = pairs;
+            pairs = pair;
+        }
+
+        Node<T> res = pairs;
+        pairs = pairs.prev;
+        res.prev = null;
+
+        while (pairs != null) {
+            Node<T> pair = pairs;
+            pairs = pairs.prev;
+            pair.prev = null;
+
+            res = merge(pair, res);
+        }
+
+        return res;
+    }
+
+    /**
+     * Heap node, returned by insertNode to be used with decreaseKey and remove(Node)
+     *
+     * @param <T>
+     */
+    public static class Node<T> {
+        private T data;
+        // First child
+        private Node<T> child;
+        // Next sibling
+        private Node<T> next;
+        // Previous sibling, or parent for the first child
+        private Node<T> prev;
+
+        private Node(T data) {
+            this.data = data;
+        }
+
+        /**
+         * @return T
+         */
+        public T getData() {
+            return data;
+        }
+    }
+}
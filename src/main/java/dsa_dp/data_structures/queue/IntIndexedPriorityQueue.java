@@ -0,0 +1,261 @@
+package dsa_dp.data_structures.queue;
+
+import java.util.Arrays;
+
+/**
+ * MIN Indexed Priority Queue specialised for int keys and int values.
+ * Keys are the indexes in the [0, maxSize) range (ex. the vertices of a graph), so no map is needed to locate them:
+ * the position map 'pm' stores the heap position of every key and the inverse map 'im' stores the key at every
+ * heap position. Nothing gets boxed or allocated after the construction.
+ */
+public class IntIndexedPriorityQueue {
+    private final int[] pm, im, values;
+    private int size = 0;
+
+
+    /**
+     * Constructor with given size, the keys accepted by the queue go from 0 to maxSize - 1
+     *
+     * @param maxSize int
+     */
+    public IntIndexedPriorityQueue(int maxSize) {
+        pm = new int[maxSize];
+        im = new int[maxSize];
+        values = new int[maxSize];
+        Arrays.fill(pm, -1);
+    }
+
+    /**
+     * Inserts a new key with the given value (Duplicates are NOT allowed)
+     * O(log n)
+     *
+     * @param key   int
+     * @param value int
+     * @return false if the key is already inside the queue, true otherwise
+     * @throws IndexOutOfBoundsException if the key is outside the [0, maxSize) range
+     */
+    public boolean insert(int key, int value) {
+        checkKey(key);
+        if (pm[key] != -1) return false;
+
+        values[key] = value;
+        pm[key] = size;
+        im[size] = key;
+        swim(size++);
+
+        return true;
+    }
+
+    /**
+     * Removes and returns the key having the lowest value, -1 if the queue is empty
+     * O(log n)
+     *
+     * @return int
+     */
+    public int poll() {
+        if (size == 0) return -1;
+
+        int key = im[0];
+        removeAt(0);
+
+        return key;
+    }
+
+    /**
+     * Returns, without removing it, the key having the lowest value, -1 if the queue is empty
+     *
+     * @return int
+     */
+    public int peek() {
+        return size > 0 ? im[0] : -1;
+    }
+
+    /**
+     * Returns the lowest value inside the queue
+     *
+     * @return int
+     * @throws IndexOutOfBoundsException if the queue is empty
+     */
+    public int peekValue() {
+        if (size == 0) throw new IndexOutOfBoundsException("The queue is empty");
+
+        return values[im[0]];
+    }
+
+    /**
+     * Removes the given key from the queue
+     * O(log n)
+     *
+     * @param key int
+     * @return false if the key was not inside the queue, true otherwise
+     */
+    public boolean remove(int key) {
+        if (!contains(key)) return false;
+
+        removeAt(pm[key]);
+        return true;
+    }
+
+    /**
+     * Updates the value of the given key, moving it up or down the heap accordingly
+     * O(log n)
+     *
+     * @param key   int
+     * @param value int
+     * @return false if the key is not inside the queue, true otherwise
+     */
+    public boolean update(int key, int value) {
+        if (!contains(key)) return false;
+
+        values[key] = value;
+        sink(pm[key]);
+        swim(pm[key]);
+
+        return true;
+    }
+
+    /**
+     * Lowers the value of the given key, nothing is done if the given value is not lower than the current one
+     * O(log n)
+     *
+     * @param key   int
+     * @param value int
+     * @return true if the value has been decreased, false otherwise
+     */
+    public boolean decreaseKey(int key, int value) {
+        if (!contains(key) || value >= values[key]) return false;
+
+        values[key] = value;
+        swim(pm[key]);
+
+        return true;
+    }
+
+    /**
+     * Whether the queue contains the given key or not
+     * O(1)
+     *
+     * @param key int
+     * @return boolean
+     */
+    public boolean contains(int key) {
+        return key >= 0 && key < pm.length && pm[key] != -1;
+    }
+
+    /**
+     * Returns the value currently associated to the given key
+     *
+     * @param key int
+     * @return int
+     * @throws IndexOutOfBoundsException if the key is not inside the queue
+     */
+    public int valueOf(int key) {
+        if (!contains(key)) throw new IndexOutOfBoundsException("Key " + key + " is not inside the queue");
+
+        return values[key];
+    }
+
+    /**
+     * Returns the current elements number inside the priority queue
+     *
+     * @return int
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns true if the queue has no elements
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Returns the max size of this priority queue (keys go from 0 to maxSize - 1)
+     *
+     * @return int
+     */
+    public int getMaxSize() {
+        return this.pm.length;
+    }
+
+    /**
+     * Removes the key at the given heap position replacing it with the last element of the heap
+     *
+     * @param i int
+     */
+    private void removeAt(int i) {
+        int key = im[i];
+        size--;
+
+        if (i != size) {
+            int last = im[size];
+            im[i] = last;
+            pm[last] = i;
+            sink(i);
+            swim(pm[last]);
+        }
+
+        pm[key] = -1;
+    }
+
+    /**
+     * Moves 'up' the node at the given position until it satisfies the MIN Heap invariant.
+     * The moving key is kept aside and written only once at its final position
+     *
+     * @param i int
+     */
+    private void swim(int i) {
+        int key = im[i];
+        int value = values[key];
+
+        while (i > 0) {
+            int p = (i - 1) >>> 1;
+            if (values[im[p]] <= value) break;
+
+            im[i] = im[p];
+            pm[im[i]] = i;
+            i = p;
+        }
+
+        im[i] = key;
+        pm[key] = i;
+    }
+
+    /**
+     * Moves 'down' the node at the given position until it satisfies the MIN Heap invariant
+     * If its value is greater than one of its children it goes down on the side of the child with the lower value
+     *
+     * @param i int
+     */
+    private void sink(int i) {
+        int key = im[i];
+        int value = values[key];
+        int child;
+
+        while ((child = 2 * i + 1) < size) {
+            if (child + 1 < size && values[im[child + 1]] < values[im[child]]) child++;
+            if (values[im[child]] >= value) break;
+
+            im[i] = im[child];
+            pm[im[i]] = i;
+            i = child;
+        }
+
+        im[i] = key;
+        pm[key] = i;
+    }
+
+    /**
+     * Throws an IndexOutOfBoundsException if the given key is outside the [0, maxSize) range
+     *
+     * @param key int
+     */
+    private void checkKey(int key) {
+        if (key < 0 || key >= pm.length)
+            throw new IndexOutOfBoundsException("Key " + key + " is out of range");
+    }
+}
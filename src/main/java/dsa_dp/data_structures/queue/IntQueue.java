@@ -0,0 +1,128 @@
+package dsa_dp.data_structures.queue;
+
+/**
+ * FIFO queue specialised for int items, backed by a circular int array whose length is a power of two.
+ * Same semantic as Queue without boxing the items (ex. the vertices of a graph visit)
+ */
+public class IntQueue {
+    private int[] items;
+    private int head, size;
+    private int maxSize = -1;
+
+
+    /**
+     * Default constructor
+     */
+    public IntQueue() {
+        this.items = new int[Queue.DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Given max size constructor
+     *
+     * @param maxSize int
+     */
+    public IntQueue(int maxSize) {
+        this.maxSize = maxSize;
+        this.items = new int[Queue.DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds a new item to the back of the queue
+     * O(1) amortized
+     *
+     * @param item int
+     */
+    public void enqueue(int item) {
+        if (this.size == this.items.length) this.grow();
+
+        this.items[(this.head + this.size) & (this.items.length - 1)] = item;
+        this.size++;
+    }
+
+    /**
+     * Removes and returns the first element added to the queue
+     * O(1)
+     *
+     * @return int
+     * @throws IndexOutOfBoundsException if the queue is empty
+     */
+    public int dequeue() throws IndexOutOfBoundsException {
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        int data = this.items[this.head];
+        this.head = (this.head + 1) & (this.items.length - 1);
+        this.size--;
+
+        return data;
+    }
+
+    /**
+     * Reads the element at the front of the queue without removing it
+     *
+     * @return int
+     * @throws IndexOutOfBoundsException if the queue is empty
+     */
+    public int peek() {
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        return this.items[this.head];
+    }
+
+    /**
+     * Returns true if the Queue reached it's max size
+     * A queue with a -1 max size doesn't reach a 'full' state
+     *
+     * @return boolean
+     */
+    public boolean isFull() {
+        return this.maxSize != -1 && this.size >= this.maxSize;
+    }
+
+    /**
+     * Returns true if the Queue size is equal to 0
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return this.size <= 0;
+    }
+
+    /**
+     * Returns the current Queue size
+     *
+     * @return int
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Prints the Queue in a suitable format
+     * O(n)
+     */
+    public void print() {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) sb.append(",");
+            sb.append(this.items[(this.head + i) & (this.items.length - 1)]);
+        }
+
+        System.out.println(sb.append("]"));
+    }
+
+    /**
+     * Doubles the array, the items are copied starting from index 0
+     */
+    private void grow() {
+        int[] newItems = new int[this.items.length * 2];
+        int firstPart = this.items.length - this.head;
+
+        System.arraycopy(this.items, this.head, newItems, 0, firstPart);
+        System.arraycopy(this.items, 0, newItems, firstPart, this.head);
+
+        this.items = newItems;
+        this.head = 0;
+    }
+}
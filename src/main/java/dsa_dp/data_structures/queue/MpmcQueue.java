@@ -0,0 +1,186 @@
+package dsa_dp.data_structures.queue;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock free multi producer multi consumer FIFO queue (Dmitry Vyukov's array queue).
+ * Every slot of the ring has a sequence number telling who can use it:
+ * - sequence == position: the slot is free for the producer that claims that position
+ * - sequence == position + 1: the slot holds the item of that position, ready for the consumer that claims it
+ * Producers and consumers claim positions with a CAS on the tail and head counters, then they publish the slot
+ * with a volatile write of its sequence, so they never wait for each other unless the queue is full or empty.
+ * The two counters live 128 bytes apart, on different cache lines, so producers and consumers don't invalidate
+ * each other's line (false sharing).
+ * Null items are not allowed.
+ */
+public class MpmcQueue<T> {
+    // Indexes of the counters inside the padded array, 16 longs (128 bytes) apart
+    private static final int TAIL = 15, HEAD = 31;
+    private final AtomicLongArray counters = new AtomicLongArray(47);
+    private final AtomicLongArray sequences;
+    private final Object[] items;
+    private final int mask;
+
+
+    /**
+     * Constructor with given capacity, rounded up to a power of two
+     *
+     * @param capacity int
+     */
+    public MpmcQueue(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IndexOutOfBoundsException("capacity must lie between 1 and 2^30");
+
+        int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.items = new Object[length];
+        this.sequences = new AtomicLongArray(length);
+        this.mask = length - 1;
+
+        for (int i = 0; i < length; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds the given item at the back of the queue, it returns false if the queue is full
+     *
+     * @param item T
+     * @return boolean
+     */
+    public boolean offer(T item) {
+        if (item == null) throw new NullPointerException("Null items are not allowed");
+
+        long position = counters.get(TAIL);
+
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (counters.compareAndSet(TAIL, position, position + 1)) {
+                    items[index] = item;
+                    sequences.set(index, position + 1); // Publishing the item
+                    return true;
+                }
+
+                position = counters.get(TAIL);
+            } else if (difference < 0) {
+                // The slot still holds the item of the previous lap
+                return false;
+            } else {
+                // Another producer claimed this position
+                position = counters.get(TAIL);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the item at the front of the queue, null if the queue is empty
+     *
+     * @return T | null
+     */
+    @SuppressWarnings("unchecked")
+    public T poll() {
+        long position = counters.get(HEAD);
+
+        while (true) {
+            int index = (int) position & mask;
+            long difference = sequences.get(index) - (position + 1);
+
+            if (difference == 0) {
+                if (counters.compareAndSet(HEAD, position, position + 1)) {
+                    T item = (T) items[index];
+                    items[index] = null;
+                    sequences.set(index, position + mask + 1); // Freeing the slot for the next lap
+                    return item;
+                }
+
+                position = counters.get(HEAD);
+            } else if (difference < 0) {
+                // The slot has not been published yet
+                return null;
+            } else {
+                // Another consumer claimed this position
+                position = counters.get(HEAD);
+            }
+        }
+    }
+
+    /**
+     * Moves up to maxItems items from the queue into the given collection.
+     * The ready slots following the head are claimed all together with a single CAS
+     *
+     * @param collection Collection<? super T>
+     * @param maxItems   int
+     * @return The number of moved items
+     */
+    @SuppressWarnings("unchecked")
+    public int drainTo(Collection<? super T> collection, int maxItems) {
+        int drained = 0;
+
+        while (drained < maxItems) {
+            long position = counters.get(HEAD);
+            int n = 0;
+
+            while (drained + n < maxItems && sequences.get((int) (position + n) & mask) == position + n + 1) {
+                n++;
+            }
+
+            if (n == 0) break;
+            if (!counters.compareAndSet(HEAD, position, position + n)) continue;
+
+            for (int i = 0; i < n; i++) {
+                int index = (int) (position + i) & mask;
+                collection.add((T) items[index]);
+                items[index] = null;
+                sequences.set(index, position + i + mask + 1);
+            }
+
+            drained += n;
+        }
+
+        return drained;
+    }
+
+    /**
+     * Moves all the items of the queue into the given collection
+     *
+     * @param collection Collection<? super T>
+     * @return The number of moved items
+     */
+    public int drainTo(Collection<? super T> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the current number of items, it is exact only when no other thread is using the queue
+     *
+     * @return int
+     */
+    public int size() {
+        // Reading the head first, so the size cannot be negative
+        long head = counters.get(HEAD);
+        long tail = counters.get(TAIL);
+
+        return (int) Math.max(0, Math.min(tail - head, mask + 1));
+    }
+
+    /**
+     * Returns true if the queue has no items
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the max number of items the queue can hold
+     *
+     * @return int
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,16 +1,21 @@
 package dsa_dp.data_structures.queue;
 
 import dsa_dp.data_structures.heap.BinaryHeap;
+import dsa_dp.data_structures.heap.DaryHeap;
+import dsa_dp.data_structures.heap.Heap;
+import dsa_dp.data_structures.heap.HeapType;
+import dsa_dp.data_structures.heap.PairingHeap;
 
 public class PriorityQueue<T extends Comparable<T>> {
-    private final BinaryHeap<T> heap;
+    private static final int DEFAULT_SIZE = 10;
+    private final Heap<T> heap;
 
 
     /**
      * Default constructor
      */
     public PriorityQueue() {
-        heap = new BinaryHeap<>();
+        this(DEFAULT_SIZE, HeapType.BINARY);
     }
 
     /**
@@ -19,7 +24,38 @@ public class PriorityQueue<T extends Comparable<T>> {
      * @param size int
      */
     public PriorityQueue(int size) {
-        heap = new BinaryHeap<>(size);
+        this(size, HeapType.BINARY);
+    }
+
+    /**
+     * Constructor with given heap implementation
+     *
+     * @param heapType HeapType
+     */
+    public PriorityQueue(HeapType heapType) {
+        this(DEFAULT_SIZE, heapType);
+    }
+
+    /**
+     * Constructor with given size and heap implementation
+     * - BINARY: binary heap with an index tracking table, O(1) contains and O(log n) remove
+     * - DARY: array based 4-ary heap, the fastest insert / dequeue but O(n) contains and remove
+     * - PAIRING: pairing heap, O(1) insert, O(n) contains and remove
+     *
+     * @param size     int
+     * @param heapType HeapType
+     */
+    public PriorityQueue(int size, HeapType heapType) {
+        switch (heapType) {
+            case DARY:
+                heap = new DaryHeap<>(size);
+                break;
+            case PAIRING:
+                heap = new PairingHeap<>();
+                break;
+            default:
+                heap = new BinaryHeap<>(size);
+        }
     }
 
     /**
@@ -58,6 +94,24 @@ public class PriorityQueue<T extends Comparable<T>> {
         return heap.remove(data);
     }
 
+    /**
+     * Returns the number of elements inside the priorityQueue
+     *
+     * @return int
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Returns true if the priorityQueue has no elements
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
     /**
      * Returns whether the priorityQueue contains the given element or not
      *
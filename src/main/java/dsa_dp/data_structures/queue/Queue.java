@@ -1,9 +1,15 @@
 package dsa_dp.data_structures.queue;
 
-import dsa_dp.data_structures.linked_list.SinglyLinkedList;
-
+/**
+ * FIFO queue backed by a circular array whose length is a power of two, so both enqueue and dequeue are O(1)
+ * (amortized, the array doubles when it gets full) and the indexes wrap with a mask.
+ * The max size doesn't prevent insertions, it only defines when the queue is considered full: the array always
+ * starts at DEFAULT_CAPACITY and grows with the items actually inside the queue.
+ */
 public class Queue<T> {
-    private final SinglyLinkedList<T> list = new SinglyLinkedList<>();
+    static final int DEFAULT_CAPACITY = 16;
+    private Object[] items;
+    private int head, size;
     private int maxSize = -1;
 
 
@@ -11,6 +17,7 @@ public class Queue<T> {
      * Default constructor
      */
     public Queue() {
+        this.items = new Object[DEFAULT_CAPACITY];
     }
 
     /**
@@ -20,35 +27,46 @@ public class Queue<T> {
      */
     public Queue(int maxSize) {
         this.maxSize = maxSize;
+        this.items = new Object[DEFAULT_CAPACITY];
     }
 
     /**
      * Constructor with given max size and first entry
      */
     public Queue(int maxSize, T item) {
+        this(maxSize);
         this.enqueue(item);
-        this.maxSize = maxSize;
     }
 
     /**
-     * Adds a new item to the head of the list
+     * Adds a new item to the back of the queue
+     * O(1) amortized
      *
      * @param item T
      */
     public void enqueue(T item) {
-        this.list.add(item);
+        if (this.size == this.items.length) this.grow();
+
+        this.items[(this.head + this.size) & (this.items.length - 1)] = item;
+        this.size++;
     }
 
     /**
      * Removes and returns the first element added to the queue
      * (Front of the Queue)
+     * O(1)
      *
      * @return T
-     * @throws IndexOutOfBoundsException exception
+     * @throws IndexOutOfBoundsException if the queue is empty
      */
+    @SuppressWarnings("unchecked")
     public T dequeue() throws IndexOutOfBoundsException {
-        T data = this.list.get(0);
-        this.list.remove(0);
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        T data = (T) this.items[this.head];
+        this.items[this.head] = null; // Letting the GC collect the item
+        this.head = (this.head + 1) & (this.items.length - 1);
+        this.size--;
 
         return data;
     }
@@ -57,9 +75,13 @@ public class Queue<T> {
      * Reads the element at the front of the queue without removing it
      *
      * @return T
+     * @throws IndexOutOfBoundsException if the queue is empty
      */
+    @SuppressWarnings("unchecked")
     public T peek() {
-        return this.list.get(0);
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        return (T) this.items[this.head];
     }
 
     /**
@@ -69,7 +91,7 @@ public class Queue<T> {
      * @return boolean
      */
     public boolean isFull() {
-        return this.maxSize != -1 && this.list.size() >= this.maxSize;
+        return this.maxSize != -1 && this.size >= this.maxSize;
     }
 
     /**
@@ -78,7 +100,7 @@ public class Queue<T> {
      * @return boolean
      */
     public boolean isEmpty() {
-        return this.list.size() <= 0;
+        return this.size <= 0;
     }
 
     /**
@@ -87,7 +109,7 @@ public class Queue<T> {
      * @return int
      */
     public int size() {
-        return this.list.size();
+        return this.size;
     }
 
     /**
@@ -95,6 +117,27 @@ public class Queue<T> {
      * O(n)
      */
     public void print() {
-        this.list.print();
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) sb.append(",");
+            sb.append(this.items[(this.head + i) & (this.items.length - 1)]);
+        }
+
+        System.out.println(sb.append("]"));
+    }
+
+    /**
+     * Doubles the array, the items are copied starting from index 0
+     */
+    private void grow() {
+        Object[] newItems = new Object[this.items.length * 2];
+        int firstPart = this.items.length - this.head;
+
+        System.arraycopy(this.items, this.head, newItems, 0, firstPart);
+        System.arraycopy(this.items, 0, newItems, firstPart, this.head);
+
+        this.items = newItems;
+        this.head = 0;
     }
 }
@@ -0,0 +1,195 @@
+package dsa_dp.data_structures.queue;
+
+import dsa_dp.data_structures.queue.wait_strategy.WaitStrategy;
+
+import java.util.function.Supplier;
+
+/**
+ * Single producer single consumer ring buffer of pre allocated, mutable events (disruptor style).
+ * The events are created once by the constructor and then reused, the producer fills them in place:
+ * <pre>
+ *     long sequence = ring.next();    // claim the next slot (waits if the consumer is a whole lap behind)
+ *     ring.get(sequence).price = 42;  // fill the event
+ *     ring.publish(sequence);         // make it visible to the consumer
+ * </pre>
+ * The consumer processes, in a single batch, all the events published since its last call, and then frees
+ * their slots with a single write of its sequence. No lock, no CAS and no allocation on both sides: the only
+ * shared state is the two padded sequences (published cursor, consumed sequence), each written by one thread.
+ * The producer keeps a cached copy of the consumed sequence and reads the real one only when the cache says
+ * the ring is full.
+ */
+public class RingBuffer<E> {
+    private final Object[] events;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    // Written by the producer, read by the consumer
+    private final Sequence cursor = new Sequence(-1);
+    // Written by the consumer, read by the producer
+    private final Sequence consumed = new Sequence(-1);
+    // Producer only state
+    private long claimed = -1, cachedConsumed = -1;
+
+
+    /**
+     * Constructor with given capacity (rounded up to a power of two), event factory and wait strategy
+     *
+     * @param capacity     int
+     * @param eventFactory Creates the events of all the slots
+     * @param waitStrategy Used by both threads when they have to wait for the other one
+     */
+    public RingBuffer(int capacity, Supplier<E> eventFactory, WaitStrategy waitStrategy) {
+        if (capacity < 1 || capacity > 1 << 30)
+            throw new IndexOutOfBoundsException("capacity must lie between 1 and 2^30");
+
+        int length = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.events = new Object[length];
+        this.mask = length - 1;
+        this.waitStrategy = waitStrategy;
+
+        for (int i = 0; i < length; i++) {
+            events[i] = eventFactory.get();
+        }
+    }
+
+    /**
+     * Claims the next slot for the producer, waiting for the consumer if the ring is full
+     *
+     * @return The sequence of the claimed slot
+     */
+    public long next() {
+        return next(1);
+    }
+
+    /**
+     * Claims the next n slots for the producer, waiting for the consumer if the ring doesn't have room for them
+     *
+     * @param n int
+     * @return The sequence of the last claimed slot, the first one is (sequence - n + 1)
+     */
+    public long next(int n) {
+        if (n < 1 || n > events.length) throw new IndexOutOfBoundsException("n must lie between 1 and the capacity");
+
+        long next = claimed + n;
+        long wrapPoint = next - events.length;
+
+        // The slot still holds an event of the previous lap not consumed yet
+        if (wrapPoint > cachedConsumed) {
+            cachedConsumed = waitStrategy.waitFor(wrapPoint, consumed);
+        }
+
+        claimed = next;
+        return next;
+    }
+
+    /**
+     * Claims the next slot for the producer without waiting
+     *
+     * @return The sequence of the claimed slot, -1 if the ring is full
+     */
+    public long tryNext() {
+        long next = claimed + 1;
+        long wrapPoint = next - events.length;
+
+        if (wrapPoint > cachedConsumed) {
+            cachedConsumed = consumed.get();
+            if (wrapPoint > cachedConsumed) return -1;
+        }
+
+        claimed = next;
+        return next;
+    }
+
+    /**
+     * Returns the event of the given sequence
+     *
+     * @param sequence long
+     * @return E
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) events[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the events up to the given sequence visible to the consumer
+     *
+     * @param sequence long
+     */
+    public void publish(long sequence) {
+        cursor.set(sequence);
+    }
+
+    /**
+     * Processes all the events published since the last call without waiting
+     *
+     * @param handler EventHandler<E>
+     * @return The number of processed events
+     */
+    public int poll(EventHandler<E> handler) {
+        return process(cursor.get(), handler);
+    }
+
+    /**
+     * Waits, with the wait strategy, until at least one event is published, then processes all the published ones
+     *
+     * @param handler EventHandler<E>
+     * @return The number of processed events
+     */
+    public int take(EventHandler<E> handler) {
+        return process(waitStrategy.waitFor(consumed.get() + 1, cursor), handler);
+    }
+
+    /**
+     * Returns the number of published events not consumed yet
+     *
+     * @return int
+     */
+    public int size() {
+        long consumedSequence = consumed.get();
+        return (int) (cursor.get() - consumedSequence);
+    }
+
+    /**
+     * Returns the number of slots of the ring
+     *
+     * @return int
+     */
+    public int capacity() {
+        return events.length;
+    }
+
+    /**
+     * Hands the events between the consumed sequence (excluded) and the given one to the handler,
+     * then frees their slots
+     *
+     * @param available The last published sequence
+     * @param handler   EventHandler<E>
+     * @return int
+     */
+    @SuppressWarnings("unchecked")
+    private int process(long available, EventHandler<E> handler) {
+        long next = consumed.get() + 1;
+        if (available < next) return 0;
+
+        for (long sequence = next; sequence <= available; sequence++) {
+            handler.onEvent((E) events[(int) sequence & mask], sequence, sequence == available);
+        }
+
+        consumed.set(available);
+        return (int) (available - next + 1);
+    }
+
+    /**
+     * Callback of the consumer, the event must not be kept after the call: its slot gets reused
+     */
+    @FunctionalInterface
+    public interface EventHandler<E> {
+
+        /**
+         * @param event      E
+         * @param sequence   long
+         * @param endOfBatch Whether this is the last event of the current batch (ex. to flush a buffered output)
+         */
+        void onEvent(E event, long sequence, boolean endOfBatch);
+    }
+}
@@ -0,0 +1,47 @@
+package dsa_dp.data_structures.queue;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter written by a single thread and read by other ones (ex. the published cursor of a ring buffer).
+ * The value sits in the middle of a 31 longs array, so it has a whole cache line of padding on both sides and
+ * the writes of a nearby counter never invalidate its line (false sharing)
+ */
+public class Sequence {
+    private static final int VALUE = 15;
+    private final AtomicLongArray padded = new AtomicLongArray(2 * VALUE + 1);
+
+
+    /**
+     * Constructor with given initial value
+     *
+     * @param initialValue long
+     */
+    public Sequence(long initialValue) {
+        padded.set(VALUE, initialValue);
+    }
+
+    /**
+     * Returns the current value (volatile read)
+     *
+     * @return long
+     */
+    public long get() {
+        return padded.get(VALUE);
+    }
+
+    /**
+     * Sets the value with release semantic: the writes made before are visible to the thread that reads
+     * the new value, without the cost of a full volatile write. Only the owner thread may call it
+     *
+     * @param value long
+     */
+    public void set(long value) {
+        padded.lazySet(VALUE, value);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(get());
+    }
+}
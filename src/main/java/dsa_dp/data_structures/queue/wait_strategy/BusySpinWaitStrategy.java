@@ -0,0 +1,21 @@
+package dsa_dp.data_structures.queue.wait_strategy;
+
+import dsa_dp.data_structures.queue.Sequence;
+
+/**
+ * Spins on the sequence: the lowest latency, but the waiting thread keeps its core busy.
+ * Suited to threads pinned on dedicated cores
+ */
+public class BusySpinWaitStrategy implements WaitStrategy {
+
+    @Override
+    public long waitFor(long value, Sequence sequence) {
+        long current;
+
+        while ((current = sequence.get()) < value) {
+            Thread.onSpinWait();
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,52 @@
+package dsa_dp.data_structures.queue.wait_strategy;
+
+import dsa_dp.data_structures.queue.Sequence;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Spins, then yields, then parks the thread for short periods until the sequence moves.
+ * The waiting thread uses almost no CPU, at the cost of a latency close to the park period.
+ * The writer never has to signal anything, so publishing stays as cheap as with the other strategies
+ */
+public class ParkingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100, YIELD_TRIES = 100;
+    private final long parkNanos;
+
+
+    /**
+     * Default constructor, it parks for 50 microseconds at a time
+     */
+    public ParkingWaitStrategy() {
+        this(50_000);
+    }
+
+    /**
+     * Constructor with given park period
+     *
+     * @param parkNanos long
+     */
+    public ParkingWaitStrategy(long parkNanos) {
+        this.parkNanos = parkNanos;
+    }
+
+    @Override
+    public long waitFor(long value, Sequence sequence) {
+        long current;
+        int tries = 0;
+
+        while ((current = sequence.get()) < value) {
+            if (tries < SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else if (tries < SPIN_TRIES + YIELD_TRIES) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(parkNanos);
+            }
+
+            if (tries < SPIN_TRIES + YIELD_TRIES) tries++;
+        }
+
+        return current;
+    }
+}
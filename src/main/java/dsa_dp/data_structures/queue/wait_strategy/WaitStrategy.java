@@ -0,0 +1,19 @@
+package dsa_dp.data_structures.queue.wait_strategy;
+
+import dsa_dp.data_structures.queue.Sequence;
+
+/**
+ * How a thread waits for a sequence written by another thread (ex. the consumer waiting for the producer),
+ * trading latency for CPU usage
+ */
+public interface WaitStrategy {
+
+    /**
+     * Waits until the given sequence reaches at least the given value
+     *
+     * @param value    The value to wait for
+     * @param sequence The sequence written by the other thread
+     * @return The value of the sequence, it can be greater than the awaited one
+     */
+    long waitFor(long value, Sequence sequence);
+}
@@ -0,0 +1,28 @@
+package dsa_dp.data_structures.queue.wait_strategy;
+
+import dsa_dp.data_structures.queue.Sequence;
+
+/**
+ * Spins for a while, then yields the core to the other threads at every check.
+ * Low latency without starving the other threads when there are more threads than cores
+ */
+public class YieldingWaitStrategy implements WaitStrategy {
+    private static final int SPIN_TRIES = 100;
+
+    @Override
+    public long waitFor(long value, Sequence sequence) {
+        long current;
+        int tries = 0;
+
+        while ((current = sequence.get()) < value) {
+            if (tries < SPIN_TRIES) {
+                tries++;
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+
+        return current;
+    }
+}
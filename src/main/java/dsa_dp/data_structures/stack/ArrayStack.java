@@ -0,0 +1,115 @@
+package dsa_dp.data_structures.stack;
+
+import java.util.Arrays;
+
+/**
+ * Stack backed by a growable array: push, pop, peek and top are O(1) (push is amortized, the array doubles
+ * when it gets full) and the items are contiguous in memory
+ */
+public class ArrayStack<T> implements IStack<T> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private Object[] items;
+    private int size;
+
+
+    /**
+     * Default constructor
+     */
+    public ArrayStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with given initial capacity
+     *
+     * @param capacity int
+     */
+    public ArrayStack(int capacity) {
+        this.items = new Object[Math.max(capacity, 2)];
+    }
+
+    /**
+     * Pushes a new item on top of the Stack
+     * O(1) amortized
+     *
+     * @param item T
+     */
+    public void push(T item) {
+        if (this.size == this.items.length) this.items = Arrays.copyOf(this.items, this.size * 2);
+
+        this.items[this.size++] = item;
+    }
+
+    /**
+     * Removes and Returns the last inserted element
+     * O(1)
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T pop() throws IndexOutOfBoundsException {
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        T item = (T) this.items[--this.size];
+        this.items[this.size] = null; // Letting the GC collect the item
+
+        return item;
+    }
+
+    /**
+     * Reads the top element of the Stack without removing it
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the stack is empty
+     */
+    public T peek() throws IndexOutOfBoundsException {
+        return this.top();
+    }
+
+    /**
+     * Reads the top element of the Stack without removing it
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the stack is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T top() throws IndexOutOfBoundsException {
+        if (this.size == 0) throw new IndexOutOfBoundsException();
+
+        return (T) this.items[this.size - 1];
+    }
+
+    /**
+     * Returns true if the current Stack size is less or equal to zero
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return this.size <= 0;
+    }
+
+    /**
+     * Returns the current size of the Stack
+     * O(1)
+     *
+     * @return int
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Prints the Stack internal values in a chronological insertion order
+     */
+    public void print() {
+        StringBuilder sb = new StringBuilder("[");
+
+        for (int i = 0; i < this.size; i++) {
+            if (i > 0) sb.append(",");
+            sb.append(this.items[i]);
+        }
+
+        System.out.println(sb.append("]"));
+    }
+}
@@ -0,0 +1,204 @@
+package dsa_dp.data_structures.stack;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Chase-Lev work stealing deque.
+ * The owner thread uses it as a stack (push and pop at the bottom, LIFO, so it keeps working on the most recent
+ * and cache-hot tasks), while any other thread can steal the oldest task from the top (FIFO).
+ * - push never synchronizes, pop needs a CAS only when it races with a thief for the last task
+ * - steal claims the top task with a CAS, a thief that loses the race gets null and may retry
+ * - the array grows (it never shrinks) when the owner fills it, thieves still reading the previous array
+ * find the same tasks there
+ * The IStack methods belong to the owner thread and, like the other stacks, throw when the deque is empty.
+ * With thieves around emptiness can only be discovered by trying, so the owner loop should rather use tryPop(),
+ * which returns null instead.
+ * Null items are not allowed.
+ */
+public class WorkStealingDeque<T> implements IStack<T> {
+    private static final int DEFAULT_CAPACITY = 32;
+    private static final VarHandle TOP, ITEM;
+    // Next index to steal, only increases, moved with a CAS
+    private volatile long top;
+    // Next index to push, written only by the owner
+    private volatile long bottom;
+    private volatile Object[] items;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(WorkStealingDeque.class, "top", long.class);
+            ITEM = MethodHandles.arrayElementVarHandle(Object[].class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+
+    /**
+     * Default constructor
+     */
+    public WorkStealingDeque() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor with given initial capacity, rounded up to a power of two
+     *
+     * @param capacity int
+     */
+    public WorkStealingDeque(int capacity) {
+        this.items = new Object[Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1];
+    }
+
+    /**
+     * Pushes a new item at the bottom of the deque, owner thread only
+     * O(1) amortized
+     *
+     * @param item T
+     */
+    public void push(T item) {
+        if (item == null) throw new NullPointerException("Null items are not allowed");
+
+        long b = this.bottom, t = this.top;
+        Object[] a = this.items;
+
+        if (b - t >= a.length) {
+            a = this.grow(a, t, b);
+        }
+
+        ITEM.setRelease(a, (int) b & (a.length - 1), item);
+        this.bottom = b + 1; // Publishing the item to the thieves
+    }
+
+    /**
+     * Removes and returns the last pushed item, owner thread only
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the deque is empty (or the last item has just been stolen)
+     */
+    public T pop() throws IndexOutOfBoundsException {
+        T item = this.tryPop();
+        if (item == null) throw new IndexOutOfBoundsException();
+
+        return item;
+    }
+
+    /**
+     * Removes and returns the last pushed item, owner thread only
+     *
+     * @return T | null if the deque is empty (or the last item has just been stolen)
+     */
+    @SuppressWarnings("unchecked")
+    public T tryPop() {
+        long b = this.bottom - 1;
+        Object[] a = this.items;
+        // Reserving the bottom item before looking at the top, the volatile write orders the two operations
+        this.bottom = b;
+        long t = this.top;
+
+        if (t > b) {
+            // Empty deque
+            this.bottom = b + 1;
+            return null;
+        }
+
+        int index = (int) b & (a.length - 1);
+        T item = (T) ITEM.getAcquire(a, index);
+
+        if (t == b) {
+            // Last item: the thieves may be trying to take it too, the CAS on the top decides
+            if (!TOP.compareAndSet(this, t, t + 1)) item = null;
+            this.bottom = b + 1;
+        } else {
+            // No thief can reach this index anymore
+            ITEM.setRelease(a, index, null);
+        }
+
+        return item;
+    }
+
+    /**
+     * Removes and returns the oldest item of the deque, any thread
+     *
+     * @return T | null if the deque is empty or another thread took the item first
+     */
+    @SuppressWarnings("unchecked")
+    public T steal() {
+        long t = this.top;
+        long b = this.bottom;
+
+        if (t >= b) return null;
+
+        Object[] a = this.items;
+        T item = (T) ITEM.getAcquire(a, (int) t & (a.length - 1));
+
+        return TOP.compareAndSet(this, t, t + 1) ? item : null;
+    }
+
+    /**
+     * Reads the last pushed item without removing it, owner thread only.
+     * It may be stolen right after the call
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the deque is empty
+     */
+    public T peek() throws IndexOutOfBoundsException {
+        return this.top();
+    }
+
+    /**
+     * Reads the last pushed item without removing it, owner thread only.
+     * It may be stolen right after the call
+     *
+     * @return T
+     * @throws IndexOutOfBoundsException if the deque is empty
+     */
+    @SuppressWarnings("unchecked")
+    public T top() throws IndexOutOfBoundsException {
+        long b = this.bottom - 1;
+        if (b < this.top) throw new IndexOutOfBoundsException();
+
+        Object[] a = this.items;
+        return (T) ITEM.getAcquire(a, (int) b & (a.length - 1));
+    }
+
+    /**
+     * Returns true if the deque has no items, the answer may already be stale when it returns
+     *
+     * @return boolean
+     */
+    public boolean isEmpty() {
+        return this.size() == 0;
+    }
+
+    /**
+     * Returns the current number of items, it is exact only when no other thread is using the deque
+     *
+     * @return int
+     */
+    public int size() {
+        long t = this.top;
+        return (int) Math.max(0, this.bottom - t);
+    }
+
+    /**
+     * Doubles the array copying the items between the top and the bottom, the old array is left untouched
+     * for the thieves that are still reading it
+     *
+     * @param a Current array
+     * @param t Top
+     * @param b Bottom
+     * @return The new array
+     */
+    private Object[] grow(Object[] a, long t, long b) {
+        Object[] newItems = new Object[a.length * 2];
+
+        for (long i = t; i < b; i++) {
+            newItems[(int) i & (newItems.length - 1)] = a[(int) i & (a.length - 1)];
+        }
+
+        this.items = newItems; // Volatile write, the copied items are visible to the thieves that read the new array
+        return newItems;
+    }
+}
@@ -3,6 +3,10 @@ package dsa_dp.data_structures;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import dsa_dp.data_structures.graph.AdjacencyListGraph;
+import dsa_dp.data_structures.graph.heuristic.EuclideanDistanceHeuristic;
+
+import java.util.ArrayList;
+import java.util.Random;
 
 public class AdjacencyListGraphTest {
 
@@ -112,4 +116,142 @@ public class AdjacencyListGraphTest {
         graph.addWeightedEdge(2, 3, 5);
         Assertions.assertArrayEquals(new int[]{0, 3, 1, 4, 7}, graph.djikstra(0));
     }
+
+    @Test
+    public void djikstraShortestPathTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(30);
+
+        // A long chain with a few shortcuts, bigger than the default size of the old indexed priority queue
+        for (int i = 0; i < 29; i++) {
+            graph.addWeightedEdge(i, i + 1, 2);
+        }
+
+        graph.addWeightedEdge(0, 10, 5);
+        graph.addWeightedEdge(10, 25, 7);
+
+        int[] dist = graph.djikstra(0);
+        Assertions.assertEquals(5, dist[10]);
+        Assertions.assertEquals(12, dist[25]);
+        Assertions.assertEquals(20, dist[29]);
+        Assertions.assertEquals("[0, 10, 25, 26, 27]", graph.djikstraShortestPath(0, 27).toString());
+        Assertions.assertEquals("[]", graph.djikstraShortestPath(27, 0).toString());
+    }
+
+    @Test
+    public void removeWeightedEdgeTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(3);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 1, 7);
+        Assertions.assertEquals(1, graph.numberOfEdges);
+        Assertions.assertEquals(4, graph.getEdgeWeight(0, 1));
+        Assertions.assertFalse(graph.addWeightedEdge(0, 3, 1));
+
+        Assertions.assertTrue(graph.removeEdge(0, 1));
+        Assertions.assertEquals(0, graph.numberOfEdges);
+        Assertions.assertEquals("[]", graph.bidirectionalDjikstraShortestPath(0, 1).toString());
+    }
+
+    @Test
+    public void pointToPointShortestPathTest() {
+        int side = 12;
+        Random rand = new Random(7);
+        AdjacencyListGraph graph = new AdjacencyListGraph(side * side);
+        double[] x = new double[side * side], y = new double[side * side];
+
+        // A grid where every edge costs at least the distance between its vertices (10 units per cell)
+        for (int r = 0; r < side; r++) {
+            for (int c = 0; c < side; c++) {
+                int v = r * side + c;
+                x[v] = c * 10;
+                y[v] = r * 10;
+
+                if (c + 1 < side) graph.addWeightedEdge(v, v + 1, 10 + rand.nextInt(20));
+                if (c > 0) graph.addWeightedEdge(v, v - 1, 10 + rand.nextInt(20));
+                if (r + 1 < side) graph.addWeightedEdge(v, v + side, 10 + rand.nextInt(20));
+                if (r > 0) graph.addWeightedEdge(v, v - side, 10 + rand.nextInt(20));
+            }
+        }
+
+        EuclideanDistanceHeuristic heuristic = new EuclideanDistanceHeuristic(x, y);
+
+        for (int i = 0; i < 20; i++) {
+            int from = rand.nextInt(side * side), to = rand.nextInt(side * side);
+            if (from == to) continue;
+            int expected = graph.djikstra(from)[to];
+
+            Assertions.assertEquals(expected, pathWeight(graph, graph.djikstraShortestPath(from, to)));
+            Assertions.assertEquals(expected, pathWeight(graph, graph.bidirectionalDjikstraShortestPath(from, to)));
+            Assertions.assertEquals(expected, pathWeight(graph, graph.aStarShortestPath(from, to, heuristic)));
+        }
+
+        graph.removeEdge(0, 1);
+        graph.removeEdge(0, side);
+        Assertions.assertEquals("[]", graph.bidirectionalDjikstraShortestPath(0, 5).toString());
+        Assertions.assertEquals("[]", graph.aStarShortestPath(0, 5, heuristic).toString());
+        Assertions.assertEquals("[]", graph.djikstraShortestPath(0, 5).toString());
+    }
+
+    @Test
+    public void johnsonTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(5);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 2, 1);
+        graph.addWeightedEdge(2, 1, -2);
+        graph.addWeightedEdge(1, 3, 1);
+        graph.addWeightedEdge(3, 4, -3);
+        graph.addWeightedEdge(2, 3, 5);
+
+        int[][] dist = graph.johnson();
+        Assertions.assertArrayEquals(new int[]{0, -1, 1, 0, -3}, dist[0]);
+        Assertions.assertArrayEquals(new int[]{Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 1, -2}, dist[1]);
+
+        // With positive weights it must agree with Dijkstra
+        Random rand = new Random(3);
+        graph = new AdjacencyListGraph(60);
+
+        for (int i = 0; i < 300; i++) {
+            graph.addWeightedEdge(rand.nextInt(60), rand.nextInt(60), rand.nextInt(50));
+        }
+
+        dist = graph.johnson();
+
+        for (int v = 0; v < 60; v++) {
+            Assertions.assertArrayEquals(graph.djikstra(v), dist[v]);
+        }
+
+        graph.addWeightedEdge(4, 0, -2);
+        graph.addWeightedEdge(0, 4, 1);
+        Assertions.assertThrows(IllegalStateException.class, graph::johnson);
+    }
+
+    @Test
+    public void topologicalSortTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(4);
+        graph.addEdge(3, 1);
+        graph.addEdge(1, 0);
+        graph.addEdge(3, 2);
+        graph.addEdge(2, 0);
+
+        Assertions.assertArrayEquals(new int[]{3, 1, 2, 0}, graph.topologicalSort());
+        Assertions.assertArrayEquals(new int[]{3, 2, 1, 0}, graph.stronglyConnectedComponents());
+
+        graph.addEdge(0, 3);
+        Assertions.assertArrayEquals(new int[]{0, 0, 0, 0}, graph.stronglyConnectedComponents());
+        Assertions.assertThrows(IllegalStateException.class, graph::topologicalSort);
+    }
+
+    /**
+     * Sums the weights of the edges of the given path, failing if one of them does not exist
+     */
+    private int pathWeight(AdjacencyListGraph graph, ArrayList<Integer> path) {
+        int weight = 0;
+
+        for (int i = 0; i + 1 < path.size(); i++) {
+            Integer edgeWeight = graph.getEdgeWeight(path.get(i), path.get(i + 1));
+            Assertions.assertNotNull(edgeWeight);
+            weight += edgeWeight;
+        }
+
+        return weight;
+    }
 }
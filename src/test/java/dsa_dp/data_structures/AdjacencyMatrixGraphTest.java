@@ -4,6 +4,8 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import dsa_dp.data_structures.graph.AdjacencyMatrixGraph;
 
+import java.util.Random;
+
 public class AdjacencyMatrixGraphTest {
 
     @Test
@@ -102,4 +104,52 @@ public class AdjacencyMatrixGraphTest {
         graph.addEdge(4, 1);
         Assertions.assertEquals("[0, 1, 2, 3, 4]", graph.recursiveDfs(0).toString());
     }
+
+    @Test
+    public void floydWarshallTest() {
+        AdjacencyMatrixGraph graph = new AdjacencyMatrixGraph(4);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 3);
+        graph.putEdgeWeight(0, 2, 5);
+        graph.putEdgeWeight(2, 3, 3);
+
+        int[][] dist = graph.floydWarshall();
+        Assertions.assertArrayEquals(new int[]{0, 1, 2, 5}, dist[0]);
+        Assertions.assertArrayEquals(new int[]{Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE, 0}, dist[3]);
+
+        // Bigger than a few tiles, with a partial tile at the end
+        int n = 150;
+        Random rand = new Random(11);
+        graph = new AdjacencyMatrixGraph(n);
+        int[][] expected = new int[n][n];
+
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                expected[i][j] = i == j ? 0 : Integer.MAX_VALUE;
+            }
+        }
+
+        for (int i = 0; i < 1500; i++) {
+            int from = rand.nextInt(n), to = rand.nextInt(n), weight = 1 + rand.nextInt(100);
+
+            if (graph.addEdge(from, to)) {
+                graph.putEdgeWeight(from, to, weight);
+                expected[from][to] = weight;
+            }
+        }
+
+        // Plain, not tiled, Floyd-Warshall
+        for (int k = 0; k < n; k++) {
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    if (expected[i][k] != Integer.MAX_VALUE && expected[k][j] != Integer.MAX_VALUE)
+                        expected[i][j] = Math.min(expected[i][j], expected[i][k] + expected[k][j]);
+                }
+            }
+        }
+
+        Assertions.assertArrayEquals(expected, graph.floydWarshall());
+    }
 }
@@ -0,0 +1,45 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.stack.ArrayStack;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ArrayStackTest {
+
+    @Test
+    public void correctTopAndPeekTest() {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        stack.push(10);
+        stack.push(12);
+        stack.push(32);
+        stack.push(45);
+        Assertions.assertEquals(45, stack.peek());
+        stack.pop();
+        Assertions.assertEquals(32, stack.top());
+    }
+
+    @Test
+    public void correctPopAndGrowTest() {
+        ArrayStack<Integer> stack = new ArrayStack<>(2);
+
+        for (int i = 0; i < 100; i++) {
+            stack.push(i);
+        }
+
+        Assertions.assertEquals(100, stack.size());
+
+        for (int i = 99; i >= 0; i--) {
+            Assertions.assertEquals(i, stack.pop());
+        }
+
+        Assertions.assertTrue(stack.isEmpty());
+    }
+
+    @Test
+    public void emptyStackTest() {
+        ArrayStack<Integer> stack = new ArrayStack<>();
+        Assertions.assertTrue(stack.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, stack::pop);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, stack::peek);
+    }
+}
@@ -44,4 +44,23 @@ public class BinaryHeapTest {
         Assertions.assertEquals(binaryHeap.remove(1), 1);
         Assertions.assertEquals(binaryHeap.peek(), 5);
     }
+
+    @Test
+    public void pollUntilEmptyTest() {
+        BinaryHeap<Integer> binaryHeap = new BinaryHeap<>();
+        int[] values = {5, 3, 5, 1, 3, 8, 1, 5};
+
+        for (int value : values) {
+            binaryHeap.insert(value);
+        }
+
+        int[] sorted = {1, 1, 3, 3, 5, 5, 5, 8};
+        for (int value : sorted) {
+            Assertions.assertEquals(value, binaryHeap.poll());
+        }
+
+        Assertions.assertEquals(0, binaryHeap.size());
+        Assertions.assertNull(binaryHeap.poll());
+        Assertions.assertFalse(binaryHeap.contains(5));
+    }
 }
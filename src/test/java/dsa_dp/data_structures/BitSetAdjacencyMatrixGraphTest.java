@@ -0,0 +1,111 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.graph.AdjacencyMatrixGraph;
+import dsa_dp.data_structures.graph.BitSetAdjacencyMatrixGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class BitSetAdjacencyMatrixGraphTest {
+
+    @Test
+    public void graphCreationTest() {
+        BitSetAdjacencyMatrixGraph graph = new BitSetAdjacencyMatrixGraph(5);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 3);
+        graph.addEdge(4, 1);
+
+        Assertions.assertEquals(
+                "[[0, 1, 0, 0, 0], [0, 0, 1, 0, 0], [0, 0, 0, 1, 0], [0, 0, 0, 0, 1], [0, 1, 0, 1, 0]]",
+                graph.print()
+        );
+        Assertions.assertEquals(6, graph.numberOfEdges);
+        Assertions.assertFalse(graph.addEdge(4, 5));
+        Assertions.assertFalse(graph.hasEdge(4, 5));
+    }
+
+    @Test
+    public void tooManyVerticesTest() {
+        // 400k vertices need 400k * 6250 words, more than an array can index
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BitSetAdjacencyMatrixGraph(400_000));
+    }
+
+    @Test
+    public void numberOfEdgesTest() {
+        BitSetAdjacencyMatrixGraph graph = new BitSetAdjacencyMatrixGraph(5);
+        Assertions.assertEquals(0, graph.numberOfEdges);
+
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4, true);
+        graph.addEdge(4, 1);
+        Assertions.assertEquals(6, graph.numberOfEdges);
+
+        graph.removeEdge(4, 1);
+        graph.removeEdge(4, 1);
+        Assertions.assertEquals(5, graph.numberOfEdges);
+
+        graph.removeEdge(4, 2);
+        Assertions.assertEquals(5, graph.numberOfEdges);
+
+        graph.addEdge(4, 2);
+        graph.addEdge(4, 4);
+        Assertions.assertEquals(6, graph.numberOfEdges);
+    }
+
+    @Test
+    public void depthFirstSearchTest() {
+        BitSetAdjacencyMatrixGraph graph = new BitSetAdjacencyMatrixGraph(6);
+        graph.addEdge(0, 1, true);
+        graph.addEdge(0, 4);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 5);
+        Assertions.assertEquals("[0, 4, 2, 3, 5, 1]", graph.iterativeDfs(0).toString());
+        Assertions.assertEquals("[0, 1, 2, 3, 5, 4]", graph.recursiveDfs(0).toString());
+        Assertions.assertEquals("[2, 3, 5]", graph.iterativeDfs(2).toString());
+
+        graph.removeEdge(0, 2);
+        Assertions.assertEquals("[0, 1, 4]", graph.recursiveDfs(0).toString());
+    }
+
+    @Test
+    public void sameVisitOrderOfTheIntMatrixTest() {
+        int n = 150;
+        Random rand = new Random(5);
+        BitSetAdjacencyMatrixGraph bitSetGraph = new BitSetAdjacencyMatrixGraph(n);
+        AdjacencyMatrixGraph graph = new AdjacencyMatrixGraph(n);
+
+        for (int i = 0; i < 600; i++) {
+            int from = rand.nextInt(n), to = rand.nextInt(n);
+            bitSetGraph.addEdge(from, to);
+            graph.addEdge(from, to);
+        }
+
+        Assertions.assertEquals(graph.numberOfEdges, bitSetGraph.numberOfEdges);
+        Assertions.assertEquals(graph.iterativeDfs(0), bitSetGraph.iterativeDfs(0));
+        Assertions.assertEquals(graph.recursiveDfs(0), bitSetGraph.recursiveDfs(0));
+        Assertions.assertEquals(graph.iterativeDfs(77), bitSetGraph.iterativeDfs(77));
+    }
+
+    @Test
+    public void neighboursIntersectionAndUnionTest() {
+        BitSetAdjacencyMatrixGraph graph = new BitSetAdjacencyMatrixGraph(130);
+        graph.addEdge(0, 5);
+        graph.addEdge(0, 70);
+        graph.addEdge(0, 129);
+        graph.addEdge(1, 70);
+        graph.addEdge(1, 129);
+        graph.addEdge(1, 3);
+
+        Assertions.assertEquals("[70, 129]", graph.commonNeighbours(0, 1).toString());
+        Assertions.assertEquals(2, graph.commonNeighboursCount(0, 1));
+        Assertions.assertEquals("[3, 5, 70, 129]", graph.neighboursUnion(0, 1).toString());
+        Assertions.assertEquals(3, graph.outDegree(1));
+    }
+}
@@ -0,0 +1,239 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.graph.AdjacencyListGraph;
+import dsa_dp.data_structures.graph.CompressedSparseRowGraph;
+import dsa_dp.data_structures.graph.model.BreadthFirstTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CompressedSparseRowGraphTest {
+
+    @Test
+    public void constructionTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(5);
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4, true);
+        graph.addEdge(4, 1);
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(graph);
+        Assertions.assertEquals(5, csr.verticesNumber());
+        Assertions.assertEquals(graph.numberOfEdges, csr.numberOfEdges);
+        Assertions.assertEquals(2, csr.outDegree(4));
+        Assertions.assertEquals(1, csr.outDegree(0));
+
+        csr = new CompressedSparseRowGraph(4, new int[]{2, 0, 2, 1}, new int[]{3, 1, 1, 2});
+        Assertions.assertEquals(4, csr.numberOfEdges);
+        Assertions.assertEquals("[2, 3, 1]", csr.iterativeBfs(2).toString());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+                new CompressedSparseRowGraph(2, new int[]{0}, new int[]{2})
+        );
+    }
+
+    @Test
+    public void iterativeDepthFirstSearchTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(6);
+        graph.addEdge(0, 1, true);
+        graph.addEdge(0, 4);
+        graph.addEdge(0, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 5);
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(graph);
+        Assertions.assertEquals("[0, 2, 3, 5, 4, 1]", csr.iterativeDfs(0).toString());
+        Assertions.assertEquals(graph.iterativeDfs(2), csr.iterativeDfs(2));
+        Assertions.assertEquals("[4]", csr.iterativeDfs(4).toString());
+    }
+
+    @Test
+    public void iterativeBreadthFirstSearchTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(13);
+        graph.addEdge(0, 9);
+        graph.addEdge(0, 11);
+        graph.addEdge(0, 7);
+        graph.addEdge(9, 8);
+        graph.addEdge(9, 10);
+        graph.addEdge(7, 3);
+        graph.addEdge(7, 6);
+        graph.addEdge(7, 11);
+        graph.addEdge(10, 1);
+        graph.addEdge(8, 1);
+        graph.addEdge(8, 12);
+        graph.addEdge(6, 5);
+        graph.addEdge(3, 2);
+        graph.addEdge(3, 4);
+        graph.addEdge(12, 2);
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(graph);
+        Assertions.assertEquals("[0, 9, 11, 7, 8, 10, 3, 6, 1, 12, 2, 4, 5]", csr.iterativeBfs(0).toString());
+        Assertions.assertEquals(graph.iterativeBfs(7), csr.iterativeBfs(7));
+    }
+
+    @Test
+    public void shortestPathTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(8);
+        graph.addEdge(0, 4);
+        graph.addEdge(0, 3);
+        graph.addEdge(0, 7);
+        graph.addEdge(7, 3);
+        graph.addEdge(7, 2);
+        graph.addEdge(7, 1);
+        graph.addEdge(4, 5);
+        graph.addEdge(5, 6);
+        graph.addEdge(6, 1);
+        graph.addEdge(1, 7);
+        graph.addEdge(1, 6);
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(graph);
+        Assertions.assertEquals("[0, 4, 5, 6]", csr.shortestPath(0, 6).toString());
+        Assertions.assertEquals("[0, 7, 2]", csr.shortestPath(0, 2).toString());
+        Assertions.assertEquals("[0, 7, 1]", csr.shortestPath(0, 1).toString());
+        Assertions.assertEquals("[]", csr.shortestPath(3, 1).toString());
+        Assertions.assertEquals("[]", csr.shortestPath(2, 2).toString());
+    }
+
+    @Test
+    public void djikstraTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(5);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 2, 1);
+        graph.addWeightedEdge(2, 1, 2);
+        graph.addWeightedEdge(1, 3, 1);
+        graph.addWeightedEdge(3, 4, 3);
+        graph.addWeightedEdge(2, 3, 5);
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(graph);
+        Assertions.assertArrayEquals(graph.djikstra(0), csr.djikstra(0));
+        Assertions.assertArrayEquals(new int[]{Integer.MAX_VALUE, 0, Integer.MAX_VALUE, 1, 4}, csr.djikstra(1));
+        Assertions.assertEquals("[0, 2, 1, 3, 4]", csr.djikstraShortestPath(0, 4).toString());
+        Assertions.assertEquals("[]", csr.djikstraShortestPath(4, 0).toString());
+    }
+
+    @Test
+    public void transposeTest() {
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(4, new int[]{0, 0, 1, 2}, new int[]{1, 2, 2, 3});
+        CompressedSparseRowGraph transposed = csr.transpose();
+
+        Assertions.assertEquals(4, transposed.numberOfEdges);
+        Assertions.assertEquals(2, transposed.outDegree(2));
+        Assertions.assertEquals("[3, 2, 1, 0]", transposed.iterativeDfs(3).toString());
+        Assertions.assertSame(csr, transposed.transpose());
+    }
+
+    @Test
+    public void parallelBreadthFirstSearchTest() {
+        // A sparse graph (top-down steps only) and a dense one (switches to bottom-up steps)
+        for (int[] params : new int[][]{{20000, 3}, {3000, 50}}) {
+            int n = params[0], degree = params[1];
+            Random rand = new Random(n);
+            int[] from = new int[n * degree], to = new int[n * degree];
+
+            for (int e = 0; e < from.length; e++) {
+                from[e] = e / degree;
+                to[e] = rand.nextInt(n);
+            }
+
+            CompressedSparseRowGraph csr = new CompressedSparseRowGraph(n, from, to);
+            BreadthFirstTree tree = csr.parallelBfs(0);
+            int[] expected = sequentialDistances(csr, degree, to);
+
+            Assertions.assertArrayEquals(expected, tree.distances);
+            Assertions.assertEquals(-1, tree.parents[0]);
+
+            for (int v = 1; v < n; v++) {
+                if (!tree.isReached(v)) continue;
+                ArrayList<Integer> path = tree.pathTo(v);
+                Assertions.assertEquals(expected[v] + 1, path.size());
+                Assertions.assertEquals(expected[v] - 1, tree.distances[tree.parents[v]]);
+            }
+
+            Assertions.assertEquals(csr.shortestPath(0, n - 1).size(), tree.pathTo(n - 1).size());
+        }
+    }
+
+    @Test
+    public void stronglyConnectedComponentsTest() {
+        // Components {0, 1, 2}, {3, 4}, {5}, {6}
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(7,
+                new int[]{0, 1, 2, 2, 3, 4, 4, 6, 6}, new int[]{1, 2, 0, 3, 4, 3, 5, 5, 0});
+        int[] component = csr.stronglyConnectedComponents();
+
+        Assertions.assertEquals(component[0], component[1]);
+        Assertions.assertEquals(component[0], component[2]);
+        Assertions.assertEquals(component[3], component[4]);
+        Assertions.assertArrayEquals(new int[]{1, 1, 1, 2, 2, 3, 0}, component);
+
+        // A path of one million vertices closed into a cycle, a recursive DFS would overflow the stack
+        int n = 1_000_000;
+        int[] from = new int[n], to = new int[n];
+
+        for (int v = 0; v < n; v++) {
+            from[v] = v;
+            to[v] = (v + 1) % n;
+        }
+
+        component = new CompressedSparseRowGraph(n, from, to).stronglyConnectedComponents();
+        Assertions.assertEquals(0, Arrays.stream(component).max().getAsInt());
+    }
+
+    @Test
+    public void condensationTest() {
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(7,
+                new int[]{0, 1, 2, 2, 3, 4, 4, 6, 6, 1}, new int[]{1, 2, 0, 3, 4, 3, 5, 5, 0, 4},
+                new int[]{1, 1, 1, 7, 1, 1, 2, 3, 4, 5});
+        CompressedSparseRowGraph dag = csr.condensation();
+
+        Assertions.assertEquals(4, dag.verticesNumber());
+        Assertions.assertEquals(4, dag.numberOfEdges);
+        Assertions.assertEquals("[0, 1, 2, 3]", Arrays.toString(dag.topologicalSort()));
+        // The two edges between {0, 1, 2} and {3, 4} are merged keeping the lowest weight
+        Assertions.assertArrayEquals(new int[]{0, 4, 9, 3}, dag.djikstra(0));
+    }
+
+    @Test
+    public void topologicalSortTest() {
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(6,
+                new int[]{5, 5, 4, 4, 2, 3}, new int[]{2, 0, 0, 1, 3, 1});
+        int[] order = csr.topologicalSort();
+        int[] position = new int[order.length];
+
+        for (int i = 0; i < order.length; i++) {
+            position[order[i]] = i;
+        }
+
+        Assertions.assertEquals("[4, 5, 2, 0, 3, 1]", Arrays.toString(order));
+
+        for (int v = 0; v < csr.verticesNumber(); v++) {
+            for (int w : csr.iterativeBfs(v)) {
+                Assertions.assertTrue(position[v] <= position[w]);
+            }
+        }
+
+        Assertions.assertThrows(IllegalStateException.class, () ->
+                new CompressedSparseRowGraph(3, new int[]{0, 1, 2}, new int[]{1, 2, 1}).topologicalSort()
+        );
+    }
+
+    /**
+     * Computes the BFS distances of every vertex from the vertex 0 following the visit order of iterativeBfs,
+     * the edges of the vertex 'v' being to[v * degree] ... to[(v + 1) * degree - 1]
+     */
+    private int[] sequentialDistances(CompressedSparseRowGraph csr, int degree, int[] to) {
+        int[] dist = new int[csr.verticesNumber()];
+        Arrays.fill(dist, -1);
+        dist[0] = 0;
+
+        for (int v : csr.iterativeBfs(0)) {
+            for (int e = v * degree; e < (v + 1) * degree; e++) {
+                if (dist[to[e]] == -1) dist[to[e]] = dist[v] + 1;
+            }
+        }
+
+        return dist;
+    }
+}
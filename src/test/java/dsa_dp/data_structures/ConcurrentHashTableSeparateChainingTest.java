@@ -0,0 +1,125 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.ConcurrentHashTableSeparateChaining;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentHashTableSeparateChainingTest {
+
+    @Test
+    public void correctAddGetPutRemoveTest() {
+        ConcurrentHashTableSeparateChaining<String, Integer> table = new ConcurrentHashTableSeparateChaining<>(3);
+        table.add("andrea", 29);
+        table.add("federica", 30);
+        table.add("luigi", 36);
+        table.add("andrea", 40);
+
+        Assertions.assertEquals(3, table.size());
+        Assertions.assertEquals(4, table.capacity());
+        Assertions.assertEquals(29, table.get("andrea"));
+        Assertions.assertNull(table.get("riccardo"));
+
+        Assertions.assertTrue(table.put("luigi", 37));
+        Assertions.assertFalse(table.put("riccardo", 12));
+        Assertions.assertEquals(37, table.get("luigi"));
+
+        Assertions.assertTrue(table.remove("andrea"));
+        Assertions.assertFalse(table.remove("andrea"));
+        Assertions.assertNull(table.get("andrea"));
+        Assertions.assertEquals(2, table.size());
+    }
+
+    @Test
+    public void sequentialResizeTest() {
+        ConcurrentHashTableSeparateChaining<Integer, Integer> table = new ConcurrentHashTableSeparateChaining<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            table.add(i, i);
+        }
+
+        Assertions.assertEquals(10_000, table.size());
+        Assertions.assertTrue(table.capacity() >= 10_000 / 0.75);
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertEquals(i, table.get(i));
+        }
+    }
+
+    @Test
+    public void concurrentWritersAndReadersTest() throws InterruptedException {
+        int writers = 8, keysPerWriter = 50_000;
+        ConcurrentHashTableSeparateChaining<Integer, Integer> table = new ConcurrentHashTableSeparateChaining<>();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicInteger errors = new AtomicInteger();
+        ArrayList<Thread> threads = new ArrayList<>();
+
+        // Every writer adds its own keys (triggering many cooperative resizes), then removes the odd ones
+        for (int w = 0; w < writers; w++) {
+            int base = w * keysPerWriter;
+
+            threads.add(new Thread(() -> {
+                await(start);
+
+                for (int k = base; k < base + keysPerWriter; k++) {
+                    table.add(k, k);
+                }
+
+                for (int k = base + 1; k < base + keysPerWriter; k += 2) {
+                    if (!table.remove(k)) errors.incrementAndGet();
+                }
+
+                for (int k = base; k < base + keysPerWriter; k += 2) {
+                    if (!table.put(k, -k)) errors.incrementAndGet();
+                }
+            }));
+        }
+
+        // Readers must only ever see a missing key or one of the values written for it
+        for (int r = 0; r < 4; r++) {
+            threads.add(new Thread(() -> {
+                await(start);
+
+                while (writing.get()) {
+                    for (int k = 0; k < writers * keysPerWriter; k += 97) {
+                        Integer value = table.get(k);
+                        if (value != null && value != k && value != -k) errors.incrementAndGet();
+                    }
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+
+        for (int i = 0; i < writers; i++) {
+            threads.get(i).join();
+        }
+
+        writing.set(false);
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Assertions.assertEquals(0, errors.get());
+        Assertions.assertEquals(writers * keysPerWriter / 2, table.size());
+
+        for (int k = 0; k < writers * keysPerWriter; k++) {
+            Assertions.assertEquals(k % 2 == 0 ? Integer.valueOf(-k) : null, table.get(k));
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
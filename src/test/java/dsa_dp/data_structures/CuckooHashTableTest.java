@@ -0,0 +1,150 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.CuckooHashTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class CuckooHashTableTest {
+
+    @Test
+    public void correctAddGetPutTest() {
+        CuckooHashTable<String, Integer> table = new CuckooHashTable<>();
+        table.add("andrea", 29);
+        table.add("federica", 30);
+        table.add("luigi", 36);
+        table.add("andrea", 30);
+
+        Assertions.assertEquals(3, table.size());
+        Assertions.assertEquals(30, table.get("andrea"));
+        Assertions.assertEquals(36, table.get("luigi"));
+        Assertions.assertNull(table.get("riccardo"));
+
+        Assertions.assertTrue(table.put("luigi", 37));
+        Assertions.assertFalse(table.put("riccardo", 12));
+        Assertions.assertEquals(37, table.get("luigi"));
+        Assertions.assertEquals(3, table.size());
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        CuckooHashTable<Integer, String> table = new CuckooHashTable<>();
+
+        for (int i = 0; i < 100; i++) {
+            table.add(i, "v" + i);
+        }
+
+        Assertions.assertTrue(table.remove(42));
+        Assertions.assertFalse(table.remove(42));
+        Assertions.assertNull(table.get(42));
+        Assertions.assertEquals(99, table.size());
+
+        for (int i = 0; i < 100; i++) {
+            if (i != 42) Assertions.assertEquals("v" + i, table.get(i));
+        }
+    }
+
+    @Test
+    public void highLoadTest() {
+        CuckooHashTable<Integer, Integer> table = new CuckooHashTable<>(1000);
+        int capacity = table.capacity();
+        Random rand = new Random(3);
+        int[] keys = new int[(int) (capacity * 0.85)];
+
+        // The displacements must find room for the keys up to a high load without growing the table
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = rand.nextInt();
+            table.add(keys[i], i);
+        }
+
+        Assertions.assertEquals(capacity, table.capacity());
+
+        for (int i = 0; i < keys.length; i++) {
+            Assertions.assertEquals(i, table.get(keys[i]));
+        }
+    }
+
+    @Test
+    public void correctResizeTest() {
+        CuckooHashTable<Integer, Integer> table = new CuckooHashTable<>();
+        int capacity = table.capacity();
+
+        for (int i = 0; i < 10_000; i++) {
+            table.add(i, i);
+        }
+
+        Assertions.assertTrue(table.capacity() > capacity);
+        Assertions.assertEquals(10_000, table.size());
+
+        for (int i = 0; i < 10_000; i++) {
+            Assertions.assertEquals(i, table.get(i));
+        }
+    }
+
+    @Test
+    public void collidingKeysTest() {
+        CuckooHashTable<CollidingKey, Integer> table = new CuckooHashTable<>();
+
+        // Every key has the same two buckets, the keys that don't fit end up inside the stash
+        for (int i = 0; i < 50; i++) {
+            table.add(new CollidingKey(i), i);
+        }
+
+        Assertions.assertEquals(50, table.size());
+        Assertions.assertTrue(table.stashSize() > 0);
+
+        for (int i = 0; i < 50; i += 2) {
+            Assertions.assertTrue(table.remove(new CollidingKey(i)));
+        }
+
+        Assertions.assertEquals(25, table.size());
+
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(i % 2 == 0 ? null : i, table.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        CuckooHashTable<Integer, Integer> table = new CuckooHashTable<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(13);
+
+        for (int i = 0; i < 300_000; i++) {
+            int key = rand.nextInt(3000);
+
+            if (rand.nextBoolean()) {
+                Assertions.assertEquals(expected.remove(key) != null, table.remove(key));
+            } else {
+                table.add(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), table.size());
+
+        for (int key = 0; key < 3000; key++) {
+            Assertions.assertEquals(expected.get(key), table.get(key));
+        }
+    }
+
+    private static class CollidingKey {
+        private final int id;
+
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}
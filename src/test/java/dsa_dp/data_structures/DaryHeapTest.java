@@ -0,0 +1,70 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.heap.DaryHeap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class DaryHeapTest {
+
+    @Test
+    public void correctPeekAndPollTest() {
+        DaryHeap<Integer> heap = new DaryHeap<>(2);
+        int[] values = {1, 5, 12, 8, 6, 13, 19, 13, 12, 11, 7, 14};
+
+        for (int value : values) {
+            heap.insert(value);
+        }
+
+        Assertions.assertEquals(12, heap.size());
+        Assertions.assertEquals(1, heap.peek());
+
+        int[] sorted = {1, 5, 6, 7, 8, 11, 12, 12, 13, 13, 14, 19};
+        for (int value : sorted) {
+            Assertions.assertEquals(value, heap.poll());
+        }
+
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertNull(heap.poll());
+        Assertions.assertNull(heap.peek());
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        DaryHeap<Integer> heap = new DaryHeap<>();
+
+        for (int i = 20; i > 0; i--) {
+            heap.insert(i);
+        }
+
+        Assertions.assertEquals(1, heap.remove(1));
+        Assertions.assertEquals(7, heap.remove(7));
+        Assertions.assertNull(heap.remove(7));
+        Assertions.assertFalse(heap.contains(7));
+        Assertions.assertTrue(heap.contains(20));
+        Assertions.assertEquals(2, heap.peek());
+    }
+
+    @Test
+    public void arityTest() {
+        Random random = new Random(42);
+
+        for (int arity = 2; arity <= 8; arity++) {
+            DaryHeap<Integer> heap = new DaryHeap<>(4, arity);
+
+            for (int i = 0; i < 1000; i++) {
+                heap.insert(random.nextInt(100));
+            }
+
+            int previous = Integer.MIN_VALUE;
+            while (!heap.isEmpty()) {
+                int value = heap.poll();
+                Assertions.assertTrue(value >= previous);
+                previous = value;
+            }
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new DaryHeap<Integer>(4, 1));
+    }
+}
@@ -0,0 +1,74 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.graph.AdjacencyListGraph;
+import dsa_dp.data_structures.graph.DynamicShortestPathTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class DynamicShortestPathTreeTest {
+
+    @Test
+    public void edgeUpdatesTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(5);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 2, 1);
+        graph.addWeightedEdge(2, 1, 2);
+        graph.addWeightedEdge(1, 3, 1);
+        graph.addWeightedEdge(3, 4, 3);
+        graph.addWeightedEdge(2, 3, 5);
+
+        DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, 0);
+        Assertions.assertArrayEquals(new int[]{0, 3, 1, 4, 7}, tree.distances());
+        Assertions.assertEquals("[0, 2, 1, 3, 4]", tree.pathTo(4).toString());
+
+        graph.removeEdge(2, 1);
+        Assertions.assertArrayEquals(new int[]{0, 4, 1, 5, 8}, tree.distances());
+
+        graph.putEdgeWeight(0, 1, 10);
+        Assertions.assertArrayEquals(new int[]{0, 10, 1, 6, 9}, tree.distances());
+        Assertions.assertEquals("[0, 2, 3, 4]", tree.pathTo(4).toString());
+
+        graph.addWeightedEdge(0, 4, 2);
+        Assertions.assertEquals(2, tree.distance(4));
+
+        graph.removeEdge(0, 2);
+        Assertions.assertArrayEquals(new int[]{0, 10, Integer.MAX_VALUE, 11, 2}, tree.distances());
+        Assertions.assertEquals("[]", tree.pathTo(2).toString());
+
+        tree.detach();
+        graph.removeEdge(0, 4);
+        Assertions.assertEquals(2, tree.distance(4));
+    }
+
+    @Test
+    public void randomUpdatesMatchDijkstraTest() {
+        int n = 80;
+        Random rand = new Random(21);
+        AdjacencyListGraph graph = new AdjacencyListGraph(n);
+
+        for (int i = 0; i < 400; i++) {
+            graph.addWeightedEdge(rand.nextInt(n), rand.nextInt(n), rand.nextInt(30));
+        }
+
+        DynamicShortestPathTree tree = new DynamicShortestPathTree(graph, 0);
+
+        for (int i = 0; i < 300; i++) {
+            int from = rand.nextInt(n), to = rand.nextInt(n);
+
+            switch (rand.nextInt(3)) {
+                case 0:
+                    graph.addWeightedEdge(from, to, rand.nextInt(30));
+                    break;
+                case 1:
+                    graph.removeEdge(from, to);
+                    break;
+                default:
+                    graph.putEdgeWeight(from, to, rand.nextInt(30));
+            }
+
+            Assertions.assertArrayEquals(graph.djikstra(0), tree.distances());
+        }
+    }
+}
@@ -2,7 +2,14 @@ package dsa_dp.data_structures;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
 import dsa_dp.data_structures.hash_table.HashTableOpenAddressing;
+import dsa_dp.data_structures.hash_table.HashingType;
+import dsa_dp.data_structures.hash_table.ProbingType;
+import dsa_dp.data_structures.hash_table.ResizeType;
+
+import java.util.HashMap;
+import java.util.Random;
 
 public class HashTableOpenAddressingTest {
 
@@ -131,4 +138,168 @@ public class HashTableOpenAddressingTest {
         Assertions.assertFalse(htOpenAddressing.put("federica", 30));
         Assertions.assertEquals(6, htOpenAddressing.size());
     }
+
+    @Test
+    public void robinHoodAddGetPutRemoveTest() {
+        HashTableOpenAddressing<Character, Integer> htOpenAddressing = new HashTableOpenAddressing<>(0.4f, ProbingType.ROBIN_HOOD);
+        htOpenAddressing.add('A', 0);
+        htOpenAddressing.add('b', 2);
+        htOpenAddressing.add('C', 12);
+        htOpenAddressing.add('d', 65);
+        htOpenAddressing.add('e', 34);
+        htOpenAddressing.add('F', 12);
+        htOpenAddressing.add('f', 90);
+        htOpenAddressing.add('f', 91);
+
+        Assertions.assertEquals(7, htOpenAddressing.size());
+        Assertions.assertNull(htOpenAddressing.get('Z'));
+        Assertions.assertEquals(91, htOpenAddressing.get('f'));
+        Assertions.assertEquals(0, htOpenAddressing.get('A'));
+
+        Assertions.assertTrue(htOpenAddressing.put('b', 3));
+        Assertions.assertFalse(htOpenAddressing.put('B', 43));
+        Assertions.assertEquals(3, htOpenAddressing.get('b'));
+
+        Assertions.assertTrue(htOpenAddressing.remove('A'));
+        Assertions.assertFalse(htOpenAddressing.remove('A'));
+        Assertions.assertNull(htOpenAddressing.get('A'));
+        Assertions.assertEquals(6, htOpenAddressing.size());
+    }
+
+    @Test
+    public void robinHoodResizeTest() {
+        HashTableOpenAddressing<String, Integer> htOpenAddressing = new HashTableOpenAddressing<>(0.4f, ProbingType.ROBIN_HOOD);
+
+        for (int i = 0; i < 9; i++) {
+            htOpenAddressing.add("key" + i, i);
+        }
+
+        Assertions.assertEquals(24, htOpenAddressing.capacity());
+
+        htOpenAddressing.add("key9", 9);
+        htOpenAddressing.add("key10", 10);
+
+        Assertions.assertEquals(48, htOpenAddressing.capacity());
+        Assertions.assertEquals(11, htOpenAddressing.size());
+
+        for (int i = 0; i < 11; i++) {
+            Assertions.assertEquals(i, htOpenAddressing.get("key" + i));
+        }
+    }
+
+    @Test
+    public void robinHoodChurnTest() {
+        HashTableOpenAddressing<Integer, Integer> htOpenAddressing = new HashTableOpenAddressing<>(0.9f, ProbingType.ROBIN_HOOD);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(5);
+
+        // Continuous insertions and removals with colliding keys, without tombstones nothing degrades
+        for (int i = 0; i < 100_000; i++) {
+            int key = rand.nextInt(2000) * 24;
+
+            if (rand.nextBoolean()) {
+                Assertions.assertEquals(expected.remove(key) != null, htOpenAddressing.remove(key));
+            } else {
+                htOpenAddressing.add(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), htOpenAddressing.size());
+
+        for (int key = 0; key < 2000 * 24; key += 24) {
+            Assertions.assertEquals(expected.get(key), htOpenAddressing.get(key));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    public void fullLoadFactorTest() {
+        // With a load factor of 1.0 one slot must still stay empty, or the probing loops never end
+        for (ProbingType type : ProbingType.values()) {
+            for (ResizeType resizeType : ResizeType.values()) {
+                HashTableOpenAddressing<Integer, Integer> htOpenAddressing = new HashTableOpenAddressing<>(1.0f, type, resizeType);
+
+                for (int i = 0; i < 100; i++) {
+                    htOpenAddressing.add(i, i);
+                }
+
+                Assertions.assertEquals(100, htOpenAddressing.size());
+                Assertions.assertNull(htOpenAddressing.get(1000));
+
+                for (int i = 0; i < 100; i += 2) {
+                    Assertions.assertTrue(htOpenAddressing.remove(i));
+                }
+
+                for (int i = 0; i < 100; i++) {
+                    Assertions.assertEquals(i % 2 == 0 ? null : i, htOpenAddressing.get(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void incrementalResizeTest() {
+        for (ProbingType type : ProbingType.values()) {
+            HashTableOpenAddressing<Integer, Integer> htOpenAddressing = new HashTableOpenAddressing<>(0.5f, type, ResizeType.INCREMENTAL);
+            HashMap<Integer, Integer> expected = new HashMap<>();
+            Random rand = new Random(9);
+
+            // Distinct keys for the linear mode, that allows duplicated additions
+            for (int i = 0; i < 20_000; i++) {
+                int key = i * 7;
+                htOpenAddressing.add(key, i);
+                expected.put(key, i);
+
+                if (rand.nextInt(3) == 0) {
+                    int other = rand.nextInt(i + 1) * 7;
+                    Assertions.assertEquals(expected.remove(other) != null, htOpenAddressing.remove(other));
+                }
+
+                if (rand.nextInt(3) == 0) {
+                    int other = rand.nextInt(i + 1) * 7;
+                    Assertions.assertEquals(expected.containsKey(other), htOpenAddressing.put(other, -i));
+                    if (expected.containsKey(other)) expected.put(other, -i);
+                }
+            }
+
+            Assertions.assertEquals(expected.size(), htOpenAddressing.size());
+
+            for (int i = 0; i < 20_000; i++) {
+                Assertions.assertEquals(expected.get(i * 7), htOpenAddressing.get(i * 7));
+            }
+        }
+    }
+
+    @Test
+    public void hashingTypesTest() {
+        for (HashingType hashing : HashingType.values()) {
+            for (ProbingType type : ProbingType.values()) {
+                HashTableOpenAddressing<Integer, Integer> htOpenAddressing = new HashTableOpenAddressing<>(0.5f, type, ResizeType.FULL, hashing);
+
+                if (hashing != HashingType.MODULO) Assertions.assertEquals(32, htOpenAddressing.capacity());
+
+                // Sequential ids, plus the extreme hashCodes
+                for (int i = 0; i < 5000; i++) {
+                    htOpenAddressing.add(i, i);
+                }
+
+                htOpenAddressing.add(Integer.MIN_VALUE, -1);
+                htOpenAddressing.add(Integer.MAX_VALUE, 1);
+
+                if (hashing != HashingType.MODULO) Assertions.assertEquals(16384, htOpenAddressing.capacity());
+                Assertions.assertEquals(5002, htOpenAddressing.size());
+                Assertions.assertEquals(-1, htOpenAddressing.get(Integer.MIN_VALUE));
+                Assertions.assertEquals(1, htOpenAddressing.get(Integer.MAX_VALUE));
+
+                for (int i = 0; i < 5000; i += 2) {
+                    Assertions.assertTrue(htOpenAddressing.remove(i));
+                }
+
+                for (int i = 0; i < 5000; i++) {
+                    Assertions.assertEquals(i % 2 == 0 ? null : i, htOpenAddressing.get(i));
+                }
+            }
+        }
+    }
 }
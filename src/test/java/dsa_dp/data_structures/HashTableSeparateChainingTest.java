@@ -2,7 +2,14 @@ package dsa_dp.data_structures;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import dsa_dp.data_structures.hash_table.Entry;
 import dsa_dp.data_structures.hash_table.HashTableSeparateChaining;
+import dsa_dp.data_structures.hash_table.HashingType;
+import dsa_dp.data_structures.hash_table.ResizeType;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Random;
 
 public class HashTableSeparateChainingTest {
 
@@ -67,4 +74,153 @@ public class HashTableSeparateChainingTest {
         Assertions.assertEquals(28, htSeparateChaining.get("andrea"));
         Assertions.assertEquals(30, htSeparateChaining.get("federica"));
     }
+
+    @Test
+    public void incrementalResizeTest() {
+        HashTableSeparateChaining<Integer, Integer> htSeparateChaining = new HashTableSeparateChaining<>(11, 0.75f, ResizeType.INCREMENTAL);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(7);
+
+        // Operations interleaved with the migrations of many resizes
+        for (int i = 0; i < 50_000; i++) {
+            int key = rand.nextInt(20_000);
+
+            switch (rand.nextInt(4)) {
+                case 0:
+                    Assertions.assertEquals(expected.remove(key) != null, htSeparateChaining.remove(key));
+                    break;
+                case 1:
+                    Assertions.assertEquals(expected.containsKey(key), htSeparateChaining.put(key, i));
+                    if (expected.containsKey(key)) expected.put(key, i);
+                    break;
+                default:
+                    htSeparateChaining.add(key, i);
+                    expected.putIfAbsent(key, i);
+            }
+
+            Assertions.assertEquals(expected.size(), htSeparateChaining.size());
+        }
+
+        // The iterator must see every entry exactly once, even in the middle of a migration
+        HashSet<Integer> iterated = new HashSet<>();
+        for (Entry<Integer, Integer> entry : htSeparateChaining) Assertions.assertTrue(iterated.add(entry.key));
+        Assertions.assertEquals(expected.keySet(), iterated);
+
+        for (int key = 0; key < 20_000; key++) {
+            Assertions.assertEquals(expected.get(key), htSeparateChaining.get(key));
+        }
+    }
+
+    @Test
+    public void hashingTypesTest() {
+        for (HashingType hashing : HashingType.values()) {
+            HashTableSeparateChaining<Integer, Integer> htSeparateChaining = new HashTableSeparateChaining<>(11, 0.75f, ResizeType.FULL, hashing);
+
+            Assertions.assertEquals(hashing == HashingType.MODULO ? 11 : 16, htSeparateChaining.capacity());
+
+            // Sequential ids, plus the extreme hashCodes
+            for (int i = 0; i < 5000; i++) {
+                htSeparateChaining.add(i, i);
+            }
+
+            htSeparateChaining.add(Integer.MIN_VALUE, -1);
+            htSeparateChaining.add(Integer.MAX_VALUE, 1);
+
+            if (hashing != HashingType.MODULO) Assertions.assertEquals(8192, htSeparateChaining.capacity());
+            Assertions.assertEquals(5002, htSeparateChaining.size());
+            Assertions.assertEquals(-1, htSeparateChaining.get(Integer.MIN_VALUE));
+            Assertions.assertEquals(1, htSeparateChaining.get(Integer.MAX_VALUE));
+
+            for (int i = 0; i < 5000; i += 2) {
+                Assertions.assertTrue(htSeparateChaining.remove(i));
+            }
+
+            for (int i = 0; i < 5000; i++) {
+                Assertions.assertEquals(i % 2 == 0 ? null : i, htSeparateChaining.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void addAllTest() {
+        HashTableSeparateChaining<Integer, Integer> htSeparateChaining = new HashTableSeparateChaining<>(3);
+        htSeparateChaining.add(-1, -1);
+
+        Integer[] keys = new Integer[1000], values = new Integer[1000];
+
+        for (int i = 0; i < 1000; i++) {
+            keys[i] = i % 900; // Some duplicates inside the batch
+            values[i] = i;
+        }
+
+        htSeparateChaining.addAll(keys, values);
+
+        // A single resize straight to the first capacity (3 * 2^k) holding the whole batch
+        Assertions.assertEquals(1536, htSeparateChaining.capacity());
+        Assertions.assertEquals(901, htSeparateChaining.size());
+        Assertions.assertEquals(-1, htSeparateChaining.get(-1));
+
+        for (int i = 0; i < 900; i++) {
+            Assertions.assertEquals(i, htSeparateChaining.get(i));
+        }
+
+        Integer[] newValues = {10, 20, 30};
+        Assertions.assertEquals(2, htSeparateChaining.putAll(new Integer[]{1, 2, 5000}, newValues));
+        Assertions.assertEquals(20, htSeparateChaining.get(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> htSeparateChaining.addAll(keys, newValues));
+    }
+
+    @Test
+    public void incrementalAddAllTest() {
+        HashTableSeparateChaining<Integer, Integer> htSeparateChaining = new HashTableSeparateChaining<>(11, 0.75f, ResizeType.INCREMENTAL);
+        HashMap<Integer, Integer> expected = new HashMap<>();
+
+        // Batches interleaved with single additions, some of them land in the middle of a migration
+        for (int round = 0; round < 20; round++) {
+            Integer[] keys = new Integer[50 * (round + 1)], values = new Integer[keys.length];
+
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = (round * 37 + i * 13) % 5000;
+                values[i] = round;
+                expected.putIfAbsent(keys[i], round);
+            }
+
+            htSeparateChaining.addAll(keys, values);
+            htSeparateChaining.add(-round - 1, round);
+            expected.putIfAbsent(-round - 1, round);
+            Assertions.assertEquals(expected.size(), htSeparateChaining.size());
+        }
+
+        for (Integer key : expected.keySet()) {
+            Assertions.assertEquals(expected.get(key), htSeparateChaining.get(key));
+        }
+    }
+
+    @Test
+    public void getAllTest() {
+        for (ResizeType resizeType : ResizeType.values()) {
+            HashTableSeparateChaining<Integer, Integer> htSeparateChaining = new HashTableSeparateChaining<>(11, 0.75f, resizeType);
+
+            for (int i = 0; i < 10_000; i += 2) {
+                htSeparateChaining.add(i, -i);
+            }
+
+            Integer[] keys = new Integer[1003], out = new Integer[1003];
+            Random rand = new Random(11);
+
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = rand.nextInt(12_000);
+            }
+
+            int expectedFound = 0;
+            for (Integer key : keys) if (key % 2 == 0 && key < 10_000) expectedFound++;
+
+            Assertions.assertEquals(expectedFound, htSeparateChaining.getAll(keys, out));
+
+            for (int i = 0; i < keys.length; i++) {
+                Assertions.assertEquals(htSeparateChaining.get(keys[i]), out[i]);
+                Assertions.assertEquals(keys[i] % 2 == 0 && keys[i] < 10_000 ? -keys[i] : null, out[i]);
+            }
+        }
+    }
 }
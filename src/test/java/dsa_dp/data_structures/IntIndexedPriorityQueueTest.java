@@ -0,0 +1,79 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.queue.IntIndexedPriorityQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class IntIndexedPriorityQueueTest {
+
+    @Test
+    public void pollAndSizeTest() {
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(13);
+        int[] values = new int[]{3, 15, 11, 17, 7, 9, 2, 1, 6, 5, 16, 4, 2};
+
+        for (int i = 0; i < values.length; i++) {
+            Assertions.assertTrue(queue.insert(i, values[i]));
+        }
+
+        Assertions.assertFalse(queue.insert(0, 100));
+        Assertions.assertEquals(13, queue.size());
+        Assertions.assertEquals(7, queue.poll());
+        Assertions.assertEquals(12, queue.size());
+        Assertions.assertEquals(2, queue.peekValue());
+        queue.poll();
+        queue.poll();
+        Assertions.assertEquals(0, queue.poll());
+        Assertions.assertEquals(9, queue.size());
+        Assertions.assertFalse(queue.contains(0));
+        Assertions.assertTrue(queue.contains(3));
+    }
+
+    @Test
+    public void updateAndRemoveTest() {
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(3);
+        queue.insert(0, 100);
+        queue.insert(1, 15);
+        queue.insert(2, 46);
+
+        Assertions.assertTrue(queue.decreaseKey(0, 10));
+        Assertions.assertFalse(queue.decreaseKey(2, 50));
+        Assertions.assertEquals(0, queue.peek());
+        Assertions.assertTrue(queue.update(0, 60));
+        Assertions.assertEquals(60, queue.valueOf(0));
+        Assertions.assertTrue(queue.remove(1));
+        Assertions.assertFalse(queue.remove(1));
+        Assertions.assertEquals(2, queue.poll());
+        Assertions.assertEquals(0, queue.poll());
+        Assertions.assertEquals(-1, queue.poll());
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> queue.insert(3, 1));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        Random rand = new Random(42);
+        int n = 500;
+        IntIndexedPriorityQueue queue = new IntIndexedPriorityQueue(n);
+        int[] values = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            values[i] = rand.nextInt(10000);
+            queue.insert(i, values[i]);
+        }
+
+        for (int i = 0; i < n; i += 3) {
+            values[i] -= rand.nextInt(5000);
+            queue.decreaseKey(i, values[i]);
+        }
+
+        int last = Integer.MIN_VALUE;
+
+        while (!queue.isEmpty()) {
+            int key = queue.poll();
+            Assertions.assertTrue(values[key] >= last);
+            last = values[key];
+        }
+    }
+}
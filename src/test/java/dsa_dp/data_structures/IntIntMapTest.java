@@ -0,0 +1,119 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.IntIntMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class IntIntMapTest {
+
+    @Test
+    public void correctAddAndGetTest() {
+        IntIntMap map = new IntIntMap();
+        map.add(1, 10);
+        map.add(-7, 70);
+        map.add(0, 5);
+        map.add(Integer.MIN_VALUE, 3);
+        map.add(1, 11);
+
+        Assertions.assertEquals(4, map.size());
+        Assertions.assertEquals(11, map.get(1));
+        Assertions.assertEquals(70, map.get(-7));
+        Assertions.assertEquals(5, map.get(0));
+        Assertions.assertEquals(3, map.get(Integer.MIN_VALUE));
+        Assertions.assertEquals(0, map.get(2));
+        Assertions.assertNull(map.get(Integer.valueOf(2)));
+        Assertions.assertEquals(5, map.get(Integer.valueOf(0)));
+
+        IntIntMap withMissingValue = new IntIntMap(10, 0.5f, -1);
+        Assertions.assertEquals(-1, withMissingValue.get(0));
+        Assertions.assertEquals(-1, withMissingValue.get(42));
+    }
+
+    @Test
+    public void correctPutAndAddToTest() {
+        IntIntMap map = new IntIntMap();
+        map.add(3, 1);
+
+        Assertions.assertTrue(map.put(3, 2));
+        Assertions.assertFalse(map.put(4, 2));
+        Assertions.assertFalse(map.put(0, 2));
+        Assertions.assertEquals(2, map.get(3));
+
+        Assertions.assertEquals(7, map.addTo(3, 5));
+        Assertions.assertEquals(5, map.addTo(9, 5));
+        Assertions.assertEquals(-1, map.addTo(0, -1));
+        Assertions.assertEquals(-2, map.addTo(0, -1));
+        Assertions.assertEquals(3, map.size());
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        IntIntMap map = new IntIntMap();
+
+        for (int i = 0; i < 100; i++) {
+            map.add(i, i * 2);
+        }
+
+        Assertions.assertTrue(map.remove(0));
+        Assertions.assertFalse(map.remove(0));
+        Assertions.assertTrue(map.remove(50));
+        Assertions.assertFalse(map.remove(Integer.valueOf(50)));
+        Assertions.assertEquals(98, map.size());
+        Assertions.assertFalse(map.containsKey(50));
+
+        for (int i = 1; i < 100; i++) {
+            if (i != 50) Assertions.assertEquals(i * 2, map.get(i));
+        }
+
+        map.clear();
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertFalse(map.containsKey(1));
+    }
+
+    @Test
+    public void correctResizeTest() {
+        IntIntMap map = new IntIntMap(12);
+        int capacity = map.capacity();
+
+        for (int i = 1; i <= 12; i++) {
+            map.add(i, i);
+        }
+
+        Assertions.assertEquals(capacity, map.capacity());
+
+        for (int i = 13; i <= capacity; i++) {
+            map.add(i, i);
+        }
+
+        Assertions.assertEquals(capacity * 2, map.capacity());
+        Assertions.assertEquals(capacity, map.get(capacity));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        IntIntMap map = new IntIntMap();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(11);
+
+        // Continuous insertions and removals over a small key space, so that clusters get shifted a lot
+        for (int i = 0; i < 200_000; i++) {
+            int key = rand.nextInt(5000) - 2500;
+
+            if (rand.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                map.add(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), map.size());
+
+        for (int key = -2500; key < 2500; key++) {
+            Assertions.assertEquals(expected.get(key), map.get(Integer.valueOf(key)));
+        }
+    }
+}
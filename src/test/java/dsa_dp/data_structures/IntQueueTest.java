@@ -0,0 +1,52 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.queue.IntQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class IntQueueTest {
+
+    @Test
+    public void correctEnqueueDequeueTest() {
+        IntQueue queue = new IntQueue();
+        queue.enqueue(12);
+        queue.enqueue(32);
+
+        Assertions.assertEquals(2, queue.size());
+        Assertions.assertEquals(12, queue.peek());
+        Assertions.assertEquals(12, queue.dequeue());
+        Assertions.assertEquals(32, queue.dequeue());
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, queue::dequeue);
+    }
+
+    @Test
+    public void correctMaxSizeReachedTest() {
+        IntQueue queue = new IntQueue(2);
+        queue.enqueue(1);
+        Assertions.assertFalse(queue.isFull());
+
+        queue.enqueue(2);
+        Assertions.assertTrue(queue.isFull());
+
+        queue.dequeue();
+        Assertions.assertFalse(queue.isFull());
+    }
+
+    @Test
+    public void wrapAroundAndGrowTest() {
+        IntQueue queue = new IntQueue();
+        int next = 0, expected = 0;
+
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 3; i++) queue.enqueue(next++);
+            for (int i = 0; i < 2; i++) Assertions.assertEquals(expected++, queue.dequeue());
+        }
+
+        while (!queue.isEmpty()) {
+            Assertions.assertEquals(expected++, queue.dequeue());
+        }
+
+        Assertions.assertEquals(next, expected);
+    }
+}
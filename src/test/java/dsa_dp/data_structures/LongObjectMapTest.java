@@ -0,0 +1,78 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.LongObjectMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class LongObjectMapTest {
+
+    @Test
+    public void correctAddGetAndPutTest() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.add(1L, "one");
+        map.add(0L, "zero");
+        map.add(Long.MIN_VALUE, "min");
+        map.add(1L << 40, "big");
+
+        Assertions.assertEquals(4, map.size());
+        Assertions.assertEquals("one", map.get(1L));
+        Assertions.assertEquals("zero", map.get(0L));
+        Assertions.assertEquals("min", map.get(Long.MIN_VALUE));
+        Assertions.assertEquals("big", map.get(Long.valueOf(1L << 40)));
+        Assertions.assertNull(map.get(2L));
+
+        Assertions.assertTrue(map.put(1L, "uno"));
+        Assertions.assertFalse(map.put(2L, "due"));
+        Assertions.assertEquals("uno", map.get(1L));
+        Assertions.assertThrows(NullPointerException.class, () -> map.add(5L, null));
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        LongObjectMap<Long> map = new LongObjectMap<>(4);
+
+        for (long i = 0; i < 1000; i++) {
+            map.add(i * 1_000_003L, Long.valueOf(i));
+        }
+
+        Assertions.assertTrue(map.remove(0L));
+        Assertions.assertFalse(map.remove(0L));
+        Assertions.assertTrue(map.remove(500 * 1_000_003L));
+        Assertions.assertEquals(998, map.size());
+
+        for (long i = 1; i < 1000; i++) {
+            if (i != 500) Assertions.assertEquals(i, map.get(i * 1_000_003L));
+        }
+
+        map.clear();
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertNull(map.get(1_000_003L));
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        LongObjectMap<Integer> map = new LongObjectMap<>();
+        HashMap<Long, Integer> expected = new HashMap<>();
+        Random rand = new Random(17);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = (rand.nextInt(5000) - 2500) * 0x1_0000_0001L;
+
+            if (rand.nextInt(3) == 0) {
+                Assertions.assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                map.add(key, Integer.valueOf(i));
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), map.size());
+
+        for (long key : expected.keySet()) {
+            Assertions.assertEquals(expected.get(key), map.get(key));
+        }
+    }
+}
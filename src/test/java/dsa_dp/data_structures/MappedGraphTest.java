@@ -0,0 +1,91 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.graph.AdjacencyListGraph;
+import dsa_dp.data_structures.graph.CompressedSparseRowGraph;
+import dsa_dp.data_structures.graph.MappedGraph;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+public class MappedGraphTest {
+
+    @Test
+    public void writeAndMapTest() throws IOException {
+        AdjacencyListGraph graph = new AdjacencyListGraph(5);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 2, 1);
+        graph.addWeightedEdge(2, 1, 2);
+        graph.addWeightedEdge(1, 3, 1);
+        graph.addWeightedEdge(3, 4, 3);
+        graph.addWeightedEdge(2, 3, 5);
+
+        Path path = Files.createTempFile("graph", ".csr");
+
+        try {
+            MappedGraph.write(graph, path);
+            MappedGraph mapped = new MappedGraph(path);
+
+            Assertions.assertEquals(5, mapped.verticesNumber());
+            Assertions.assertEquals(6, mapped.numberOfEdges);
+            Assertions.assertEquals(2, mapped.outDegree(0));
+            Assertions.assertEquals(graph.iterativeBfs(0), mapped.iterativeBfs(0));
+            Assertions.assertArrayEquals(graph.djikstra(0), mapped.djikstra(0));
+            Assertions.assertArrayEquals(graph.djikstra(1), mapped.djikstra(1));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> mapped.iterativeBfs(5));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void segmentedMappingTest() throws IOException {
+        int n = 1000, m = 8000;
+        Random rand = new Random(n);
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+
+        for (int e = 0; e < m; e++) {
+            from[e] = rand.nextInt(n);
+            to[e] = rand.nextInt(n);
+            weight[e] = rand.nextInt(100);
+        }
+
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(n, from, to, weight);
+        Path path = Files.createTempFile("graph", ".csr");
+
+        try {
+            MappedGraph.write(csr, path);
+
+            // 4KB segments, the offsets and the edges span many of them
+            MappedGraph mapped = new MappedGraph(path, 12);
+
+            for (int v = 0; v < n; v += 97) {
+                Assertions.assertEquals(csr.outDegree(v), mapped.outDegree(v));
+                Assertions.assertEquals(csr.iterativeBfs(v), mapped.iterativeBfs(v));
+                Assertions.assertArrayEquals(csr.djikstra(v), mapped.djikstra(v));
+            }
+
+            CompressedSparseRowGraph loaded = mapped.load();
+            Assertions.assertEquals(csr.numberOfEdges, loaded.numberOfEdges);
+            Assertions.assertArrayEquals(csr.djikstra(0), loaded.djikstra(0));
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void invalidFileTest() throws IOException {
+        Path path = Files.createTempFile("graph", ".csr");
+
+        try {
+            Files.write(path, new byte[64]);
+            Assertions.assertThrows(IOException.class, () -> new MappedGraph(path));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> new MappedGraph(path, 31));
+        } finally {
+            Files.delete(path);
+        }
+    }
+}
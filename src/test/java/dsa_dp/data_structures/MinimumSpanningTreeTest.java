@@ -0,0 +1,136 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.disjoint_set.DisjointSet;
+import dsa_dp.data_structures.graph.AdjacencyListGraph;
+import dsa_dp.data_structures.graph.CompressedSparseRowGraph;
+import dsa_dp.data_structures.graph.MinimumSpanningTree;
+import dsa_dp.data_structures.graph.model.Edge;
+import dsa_dp.data_structures.graph.model.SpanningTree;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+
+public class MinimumSpanningTreeTest {
+
+    @Test
+    public void minimumSpanningTreeTest() {
+        AdjacencyListGraph graph = new AdjacencyListGraph(6);
+        graph.addWeightedEdge(0, 1, 4);
+        graph.addWeightedEdge(0, 2, 3);
+        graph.addWeightedEdge(1, 2, 1);
+        graph.addWeightedEdge(2, 1, 2);
+        graph.addWeightedEdge(1, 3, 2);
+        graph.addWeightedEdge(3, 2, 4);
+        graph.addWeightedEdge(3, 4, 2);
+        graph.addWeightedEdge(4, 5, 6);
+        graph.addWeightedEdge(5, 3, 3);
+
+        MinimumSpanningTree mst = new MinimumSpanningTree(graph);
+
+        for (SpanningTree tree : new SpanningTree[]{mst.kruskal(), mst.prim(), mst.boruvka()}) {
+            Assertions.assertEquals(11, tree.totalWeight);
+            Assertions.assertEquals(5, tree.edges.size());
+            assertSpanningForest(6, tree);
+        }
+
+        assertSameEdges(mst.kruskal(), mst.boruvka());
+    }
+
+    @Test
+    public void minimumSpanningForestTest() {
+        // Two components {0, 1, 2} and {3, 4}, plus the isolated vertex 5
+        CompressedSparseRowGraph csr = new CompressedSparseRowGraph(6,
+                new int[]{0, 1, 2, 3}, new int[]{1, 2, 0, 4}, new int[]{5, -2, 7, 1});
+        MinimumSpanningTree mst = new MinimumSpanningTree(csr);
+
+        for (SpanningTree tree : new SpanningTree[]{mst.kruskal(), mst.prim(), mst.boruvka()}) {
+            Assertions.assertEquals(4, tree.totalWeight);
+            Assertions.assertEquals(3, tree.edges.size());
+            assertSpanningForest(6, tree);
+        }
+
+        SpanningTree empty = new MinimumSpanningTree(new CompressedSparseRowGraph(3, new int[0], new int[0])).boruvka();
+        Assertions.assertEquals(0, empty.totalWeight);
+        Assertions.assertTrue(empty.edges.isEmpty());
+    }
+
+    @Test
+    public void randomGraphTest() {
+        int n = 2000, m = 10000;
+        Random rand = new Random(n);
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+
+        for (int e = 0; e < m; e++) {
+            from[e] = rand.nextInt(n);
+            to[e] = rand.nextInt(n);
+            weight[e] = rand.nextInt(50); // Many repeated weights
+        }
+
+        MinimumSpanningTree mst = new MinimumSpanningTree(new CompressedSparseRowGraph(n, from, to, weight));
+        SpanningTree kruskal = mst.kruskal();
+        SpanningTree prim = mst.prim();
+        SpanningTree boruvka = mst.boruvka();
+
+        Assertions.assertEquals(kruskal.totalWeight, prim.totalWeight);
+        Assertions.assertEquals(kruskal.totalWeight, boruvka.totalWeight);
+        Assertions.assertEquals(kruskal.edges.size(), prim.edges.size());
+        assertSameEdges(kruskal, boruvka);
+        assertSpanningForest(n, prim);
+        assertSpanningForest(n, boruvka);
+    }
+
+    @Test
+    public void hubAndParallelEdgesTest() {
+        // Every vertex points to the hub 0 twice with the same weight, Prim reaches them through the incoming edges
+        int n = 50_000, m = 2 * (n - 1);
+        int[] from = new int[m], to = new int[m], weight = new int[m];
+
+        for (int v = 1; v < n; v++) {
+            for (int k = 0; k < 2; k++) {
+                int e = 2 * (v - 1) + k;
+                from[e] = v;
+                to[e] = 0;
+                weight[e] = v % 7;
+            }
+        }
+
+        MinimumSpanningTree mst = new MinimumSpanningTree(new CompressedSparseRowGraph(n, from, to, weight));
+        SpanningTree kruskal = mst.kruskal();
+        SpanningTree prim = mst.prim();
+
+        Assertions.assertEquals(n - 1, prim.edges.size());
+        Assertions.assertEquals(kruskal.totalWeight, prim.totalWeight);
+        // Same edges too: the lowest index wins between equal parallel edges in both algorithms
+        assertSameEdges(kruskal, prim);
+        assertSpanningForest(n, prim);
+    }
+
+    /**
+     * Checks that the two trees are made of the same edges, regardless of the order in which they were found
+     */
+    private void assertSameEdges(SpanningTree expected, SpanningTree actual) {
+        HashSet<String> edges = new HashSet<>();
+        for (Edge edge : expected.edges) edges.add(edge.toString());
+
+        Assertions.assertEquals(expected.edges.size(), actual.edges.size());
+        for (Edge edge : actual.edges) Assertions.assertTrue(edges.contains(edge.toString()));
+    }
+
+    /**
+     * Checks that the edges of the tree never close a cycle and that their weights add up to the total weight
+     */
+    private void assertSpanningForest(int n, SpanningTree tree) {
+        DisjointSet set = new DisjointSet(n);
+        long total = 0;
+
+        for (Edge edge : tree.edges) {
+            Assertions.assertFalse(set.areUnified(edge.from, edge.to));
+            set.union(edge.from, edge.to);
+            total += edge.weight;
+        }
+
+        Assertions.assertEquals(tree.totalWeight, total);
+    }
+}
@@ -0,0 +1,110 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.queue.MpmcQueue;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MpmcQueueTest {
+
+    @Test
+    public void correctOfferPollTest() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(3);
+        Assertions.assertEquals(4, queue.capacity());
+        Assertions.assertNull(queue.poll());
+
+        for (int i = 0; i < 4; i++) {
+            Assertions.assertTrue(queue.offer(i));
+        }
+
+        Assertions.assertFalse(queue.offer(4));
+        Assertions.assertEquals(4, queue.size());
+        Assertions.assertEquals(0, queue.poll());
+        Assertions.assertTrue(queue.offer(4));
+
+        for (int i = 1; i <= 4; i++) {
+            Assertions.assertEquals(i, queue.poll());
+        }
+
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertThrows(NullPointerException.class, () -> queue.offer(null));
+    }
+
+    @Test
+    public void drainToTest() {
+        MpmcQueue<Integer> queue = new MpmcQueue<>(16);
+
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+
+        ArrayList<Integer> drained = new ArrayList<>();
+        Assertions.assertEquals(4, queue.drainTo(drained, 4));
+        Assertions.assertEquals(6, queue.drainTo(drained));
+        Assertions.assertEquals(0, queue.drainTo(drained));
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(i, drained.get(i));
+        }
+    }
+
+    @Test
+    @Timeout(30)
+    public void concurrentProducersConsumersTest() throws InterruptedException {
+        MpmcQueue<Long> queue = new MpmcQueue<>(64);
+        int producers = 4, consumers = 4, perProducer = 10_000;
+        AtomicLong sum = new AtomicLong(), count = new AtomicLong();
+        ArrayList<Thread> threads = new ArrayList<>();
+
+        for (int p = 0; p < producers; p++) {
+            threads.add(new Thread(() -> {
+                for (long i = 1; i <= perProducer; i++) {
+                    while (!queue.offer(i)) Thread.onSpinWait();
+                }
+            }));
+        }
+
+        for (int c = 0; c < consumers; c++) {
+            int id = c;
+
+            threads.add(new Thread(() -> {
+                ArrayList<Long> batch = new ArrayList<>();
+
+                while (count.get() < (long) producers * perProducer) {
+                    // Half of the consumers poll one item at a time, the others drain batches
+                    if (id % 2 == 0) {
+                        Long item = queue.poll();
+                        if (item == null) {
+                            Thread.yield();
+                            continue;
+                        }
+
+                        sum.addAndGet(item);
+                        count.incrementAndGet();
+                    } else {
+                        batch.clear();
+                        int n = queue.drainTo(batch, 16);
+                        if (n == 0) Thread.yield();
+
+                        for (Long item : batch) sum.addAndGet(item);
+                        count.addAndGet(n);
+                    }
+                }
+            }));
+        }
+
+        for (Thread thread : threads) {
+            // A lost item would leave the consumers spinning, they must not keep the JVM alive after the timeout
+            thread.setDaemon(true);
+            thread.start();
+        }
+        for (Thread thread : threads) thread.join();
+
+        Assertions.assertEquals((long) producers * perProducer, count.get());
+        Assertions.assertEquals((long) producers * perProducer * (perProducer + 1) / 2, sum.get());
+        Assertions.assertTrue(queue.isEmpty());
+    }
+}
@@ -0,0 +1,95 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.OffHeapLongLongMap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class OffHeapLongLongMapTest {
+
+    @Test
+    public void correctAddGetPutTest() {
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap(10, 0.75f, -1)) {
+            map.add(1, 10);
+            map.add(-7, 70);
+            map.add(0, 5);
+            map.add(Long.MIN_VALUE, 3);
+            map.add(1, 11);
+
+            Assertions.assertEquals(4, map.size());
+            Assertions.assertEquals(11, map.get(1));
+            Assertions.assertEquals(70, map.get(-7));
+            Assertions.assertEquals(5, map.get(0));
+            Assertions.assertEquals(3, map.get(Long.MIN_VALUE));
+            Assertions.assertEquals(-1, map.get(2));
+            Assertions.assertNull(map.get(Long.valueOf(2)));
+            Assertions.assertEquals(5, map.get(Long.valueOf(0)));
+            Assertions.assertEquals(70, map.get(Long.valueOf(-7)));
+
+            Assertions.assertTrue(map.put(-7, 71));
+            Assertions.assertFalse(map.put(8, 1));
+            Assertions.assertEquals(71, map.get(-7));
+        }
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap()) {
+            for (long i = 0; i < 100; i++) {
+                map.add(i, i * 2);
+            }
+
+            Assertions.assertTrue(map.remove(0));
+            Assertions.assertTrue(map.remove(42));
+            Assertions.assertFalse(map.remove(42));
+            Assertions.assertEquals(98, map.size());
+
+            for (long i = 1; i < 100; i++) {
+                Assertions.assertEquals(i == 42 ? 0 : i * 2, map.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void multipleSegmentsTest() {
+        // 256 bytes segments, 16 slots each: the table is spread over many buffers and resized many times
+        try (OffHeapLongLongMap map = new OffHeapLongLongMap(16, 0.75f, Long.MIN_VALUE, 8)) {
+            HashMap<Long, Long> expected = new HashMap<>();
+            Random rand = new Random(5);
+
+            for (int i = 0; i < 100_000; i++) {
+                long key = rand.nextInt(20_000) - 10_000L;
+
+                if (rand.nextInt(3) == 0) {
+                    Assertions.assertEquals(expected.remove(key) != null, map.remove(key));
+                } else {
+                    map.add(key, i);
+                    expected.put(key, (long) i);
+                }
+            }
+
+            Assertions.assertEquals(expected.size(), map.size());
+
+            for (long key = -10_000; key < 10_000; key++) {
+                Assertions.assertEquals(expected.getOrDefault(key, Long.MIN_VALUE), map.get(key));
+            }
+
+            map.clear();
+            Assertions.assertEquals(0, map.size());
+            Assertions.assertFalse(map.containsKey(3));
+        }
+    }
+
+    @Test
+    public void closedMapTest() {
+        OffHeapLongLongMap map = new OffHeapLongLongMap();
+        map.add(1, 1);
+        map.close();
+        map.close();
+
+        Assertions.assertThrows(IllegalStateException.class, () -> map.get(1));
+        Assertions.assertThrows(IllegalStateException.class, () -> map.add(2, 2));
+    }
+}
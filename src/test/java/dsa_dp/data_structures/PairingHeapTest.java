@@ -0,0 +1,79 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.heap.PairingHeap;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+public class PairingHeapTest {
+
+    @Test
+    public void correctPeekAndPollTest() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        int[] values = {1, 5, 12, 8, 6, 13, 19, 13, 12, 11, 7, 14};
+
+        for (int value : values) {
+            heap.insert(value);
+        }
+
+        Assertions.assertEquals(12, heap.size());
+        Assertions.assertEquals(1, heap.peek());
+
+        int[] sorted = {1, 5, 6, 7, 8, 11, 12, 12, 13, 13, 14, 19};
+        for (int value : sorted) {
+            Assertions.assertEquals(value, heap.poll());
+        }
+
+        Assertions.assertTrue(heap.isEmpty());
+        Assertions.assertNull(heap.poll());
+    }
+
+    @Test
+    public void decreaseKeyAndRemoveTest() {
+        PairingHeap<Integer> heap = new PairingHeap<>();
+        ArrayList<PairingHeap.Node<Integer>> nodes = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            nodes.add(heap.insertNode(100 + i));
+        }
+
+        heap.poll();
+        heap.decreaseKey(nodes.get(50), 5);
+        heap.decreaseKey(nodes.get(70), 3);
+        Assertions.assertEquals(3, heap.peek());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(nodes.get(60), 1000));
+
+        Assertions.assertEquals(5, heap.remove(nodes.get(50)));
+        Assertions.assertEquals(199, heap.remove(199));
+        Assertions.assertNull(heap.remove(199));
+        Assertions.assertTrue(heap.contains(198));
+        Assertions.assertEquals(97, heap.size());
+
+        Assertions.assertEquals(3, heap.poll());
+        int previous = 0;
+        while (!heap.isEmpty()) {
+            int value = heap.poll();
+            Assertions.assertTrue(value > previous);
+            previous = value;
+        }
+    }
+
+    @Test
+    public void meldTest() {
+        PairingHeap<Integer> heap = new PairingHeap<>(), other = new PairingHeap<>();
+
+        for (int i = 0; i < 10; i++) {
+            heap.insert(i * 2);
+            other.insert(i * 2 + 1);
+        }
+
+        heap.meld(other);
+        Assertions.assertEquals(20, heap.size());
+        Assertions.assertTrue(other.isEmpty());
+
+        for (int i = 0; i < 20; i++) {
+            Assertions.assertEquals(i, heap.poll());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.Codec;
+import dsa_dp.data_structures.hash_table.PersistentHashTable;
+import dsa_dp.data_structures.hash_table.SyncType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.stream.Stream;
+
+public class PersistentHashTableTest {
+
+    @Test
+    public void correctAddGetPutRemoveTest() throws IOException {
+        Path directory = Files.createTempDirectory("table");
+
+        try (PersistentHashTable<String, Integer> table = new PersistentHashTable<>(directory, Codec.STRING, Codec.INTEGER)) {
+            table.add("andrea", 29);
+            table.add("federica", 30);
+            table.add("luigi", 36);
+            table.add("andrea", 30);
+
+            Assertions.assertEquals(3, table.size());
+            Assertions.assertEquals(30, table.get("andrea"));
+            Assertions.assertNull(table.get("riccardo"));
+
+            Assertions.assertTrue(table.put("luigi", 37));
+            Assertions.assertFalse(table.put("riccardo", 12));
+            Assertions.assertEquals(37, table.get("luigi"));
+
+            Assertions.assertTrue(table.remove("federica"));
+            Assertions.assertFalse(table.remove("federica"));
+            Assertions.assertNull(table.get("federica"));
+            Assertions.assertEquals(2, table.size());
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void reopenTest() throws IOException {
+        Path directory = Files.createTempDirectory("table");
+        HashMap<Long, String> expected = new HashMap<>();
+        Random rand = new Random(1);
+
+        try {
+            // Many resizes of the index, then a warm start that maps the same files again
+            try (PersistentHashTable<Long, String> table = new PersistentHashTable<>(directory, Codec.LONG, Codec.STRING, SyncType.NONE)) {
+                for (int i = 0; i < 20_000; i++) {
+                    long key = rand.nextInt(10_000);
+
+                    if (rand.nextInt(4) == 0) {
+                        Assertions.assertEquals(expected.remove(key) != null, table.remove(key));
+                    } else {
+                        table.add(key, "v" + i);
+                        expected.put(key, "v" + i);
+                    }
+                }
+            }
+
+            try (PersistentHashTable<Long, String> table = new PersistentHashTable<>(directory, Codec.LONG, Codec.STRING)) {
+                Assertions.assertEquals(expected.size(), table.size());
+
+                for (long key = 0; key < 10_000; key++) {
+                    Assertions.assertEquals(expected.get(key), table.get(key));
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void crashRecoveryTest() throws IOException {
+        Path directory = Files.createTempDirectory("table");
+        Path copy = Files.createTempDirectory("crashed");
+
+        try {
+            try (PersistentHashTable<Integer, Integer> table = new PersistentHashTable<>(directory, Codec.INTEGER, Codec.INTEGER)) {
+                for (int i = 0; i < 5000; i++) {
+                    table.add(i, i);
+                }
+
+                table.remove(7);
+                table.put(8, -8);
+
+                // The files as they are on disk if the process died now: the index is marked as dirty
+                Files.copy(directory.resolve("log"), copy.resolve("log"));
+                Files.copy(directory.resolve("index"), copy.resolve("index"));
+            }
+
+            // A record torn by the crash at the end of the log
+            Files.write(copy.resolve("log"), new byte[]{0, 1, 2, 3, 0, 0, 0, 4, 0}, StandardOpenOption.APPEND);
+
+            try (PersistentHashTable<Integer, Integer> table = new PersistentHashTable<>(copy, Codec.INTEGER, Codec.INTEGER)) {
+                Assertions.assertEquals(4999, table.size());
+                Assertions.assertNull(table.get(7));
+                Assertions.assertEquals(-8, table.get(8));
+                Assertions.assertEquals(4999, table.get(4999));
+
+                table.add(5000, 5000);
+                Assertions.assertEquals(5000, table.get(5000));
+            }
+        } finally {
+            delete(directory);
+            delete(copy);
+        }
+    }
+
+    @Test
+    public void compactionTest() throws IOException {
+        Path directory = Files.createTempDirectory("table");
+
+        try {
+            try (PersistentHashTable<Integer, String> table = new PersistentHashTable<>(directory, Codec.INTEGER, Codec.STRING)) {
+                for (int round = 0; round < 10; round++) {
+                    for (int i = 0; i < 1000; i++) {
+                        table.add(i, "value-" + round + "-" + i);
+                    }
+                }
+
+                long length = table.logLength();
+                table.compact();
+
+                Assertions.assertTrue(table.logLength() < length / 5);
+                Assertions.assertEquals(1000, table.size());
+
+                // The automatic compaction keeps the log bounded under continuous overwrites
+                for (int round = 0; round < 200; round++) {
+                    for (int i = 0; i < 1000; i++) {
+                        table.put(i, "value-" + round + "-" + i);
+                    }
+                }
+
+                Assertions.assertTrue(table.logLength() < 3 << 20);
+            }
+
+            try (PersistentHashTable<Integer, String> table = new PersistentHashTable<>(directory, Codec.INTEGER, Codec.STRING)) {
+                for (int i = 0; i < 1000; i++) {
+                    Assertions.assertEquals("value-199-" + i, table.get(i));
+                }
+            }
+        } finally {
+            delete(directory);
+        }
+    }
+
+    @Test
+    public void closedTableTest() throws IOException {
+        Path directory = Files.createTempDirectory("table");
+
+        try {
+            PersistentHashTable<String, String> table = new PersistentHashTable<>(directory, Codec.STRING, Codec.STRING);
+            table.close();
+            table.close();
+
+            Assertions.assertThrows(IllegalStateException.class, () -> table.get("a"));
+        } finally {
+            delete(directory);
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+}
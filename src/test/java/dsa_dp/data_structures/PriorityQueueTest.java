@@ -1,9 +1,12 @@
 package dsa_dp.data_structures;
 
+import dsa_dp.data_structures.heap.HeapType;
 import dsa_dp.data_structures.queue.PriorityQueue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 public class PriorityQueueTest {
 
     @Test
@@ -56,4 +59,31 @@ public class PriorityQueueTest {
         Assertions.assertTrue(priorityQueue.contains(2003));
         Assertions.assertFalse(priorityQueue.contains(50000));
     }
+
+    @Test
+    public void heapTypesTest() {
+        for (HeapType heapType : HeapType.values()) {
+            PriorityQueue<Integer> priorityQueue = new PriorityQueue<>(heapType);
+            java.util.PriorityQueue<Integer> expected = new java.util.PriorityQueue<>();
+            Random random = new Random(7);
+
+            for (int i = 0; i < 5000; i++) {
+                int op = random.nextInt(10);
+
+                if (op < 6) {
+                    int value = random.nextInt(500);
+                    priorityQueue.enqueue(value);
+                    expected.add(value);
+                } else if (op < 9) {
+                    Assertions.assertEquals(expected.poll(), priorityQueue.dequeue());
+                } else {
+                    int value = random.nextInt(500);
+                    Assertions.assertEquals(expected.remove(value) ? (Integer) value : null, priorityQueue.remove(value));
+                }
+
+                Assertions.assertEquals(expected.size(), priorityQueue.size());
+                Assertions.assertEquals(expected.peek(), priorityQueue.peek());
+            }
+        }
+    }
 }
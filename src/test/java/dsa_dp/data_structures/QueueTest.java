@@ -50,4 +50,33 @@ public class QueueTest {
         queue.print();
         Assertions.assertEquals(queue.peek(), 123);
     }
+
+    @Test
+    public void emptyQueueTest() {
+        Queue<Integer> queue = new Queue<>();
+
+        Assertions.assertTrue(queue.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, queue::dequeue);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, queue::peek);
+    }
+
+    @Test
+    public void wrapAroundAndGrowTest() {
+        Queue<Integer> queue = new Queue<>();
+        int next = 0, expected = 0;
+
+        // The head moves around the array while it grows several times
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < 3; i++) queue.enqueue(next++);
+            for (int i = 0; i < 2; i++) Assertions.assertEquals(expected++, queue.dequeue());
+        }
+
+        Assertions.assertEquals(1000, queue.size());
+
+        while (!queue.isEmpty()) {
+            Assertions.assertEquals(expected++, queue.dequeue());
+        }
+
+        Assertions.assertEquals(next, expected);
+    }
 }
@@ -0,0 +1,86 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.queue.RingBuffer;
+import dsa_dp.data_structures.queue.wait_strategy.BusySpinWaitStrategy;
+import dsa_dp.data_structures.queue.wait_strategy.ParkingWaitStrategy;
+import dsa_dp.data_structures.queue.wait_strategy.WaitStrategy;
+import dsa_dp.data_structures.queue.wait_strategy.YieldingWaitStrategy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class RingBufferTest {
+
+    @Test
+    public void publishAndPollTest() {
+        RingBuffer<Tick> ring = new RingBuffer<>(3, Tick::new, new BusySpinWaitStrategy());
+        Assertions.assertEquals(4, ring.capacity());
+
+        for (int i = 0; i < 4; i++) {
+            long sequence = ring.tryNext();
+            ring.get(sequence).price = i * 10;
+            ring.publish(sequence);
+        }
+
+        Assertions.assertEquals(-1, ring.tryNext());
+        Assertions.assertEquals(4, ring.size());
+
+        ArrayList<Long> prices = new ArrayList<>();
+        ArrayList<Boolean> ends = new ArrayList<>();
+        Assertions.assertEquals(4, ring.poll((event, sequence, endOfBatch) -> {
+            prices.add(event.price);
+            ends.add(endOfBatch);
+        }));
+
+        Assertions.assertEquals(List.of(0L, 10L, 20L, 30L), prices);
+        Assertions.assertEquals(List.of(false, false, false, true), ends);
+        Assertions.assertEquals(0, ring.poll((event, sequence, endOfBatch) -> prices.add(-1L)));
+
+        // The slots are free again and the events are the same objects
+        long last = ring.next(4);
+        Assertions.assertEquals(7, last);
+        Assertions.assertEquals(30, ring.get(last).price);
+    }
+
+    @Test
+    @Timeout(30)
+    public void producerConsumerTest() throws InterruptedException {
+        WaitStrategy[] strategies = {new BusySpinWaitStrategy(), new YieldingWaitStrategy(), new ParkingWaitStrategy(1000)};
+
+        for (WaitStrategy strategy : strategies) {
+            RingBuffer<Tick> ring = new RingBuffer<>(64, Tick::new, strategy);
+            int events = 20_000;
+            long[] state = {0, 0}; // Next expected price, number of errors
+
+            Thread consumer = new Thread(() -> {
+                while (state[0] < events) {
+                    ring.take((event, sequence, endOfBatch) -> {
+                        if (event.price != state[0] || sequence != state[0]) state[1]++;
+                        state[0]++;
+                    });
+                }
+            });
+
+            consumer.setDaemon(true);
+            consumer.start();
+
+            for (long i = 0; i < events; i++) {
+                long sequence = ring.next();
+                ring.get(sequence).price = i;
+                ring.publish(sequence);
+            }
+
+            consumer.join();
+
+            Assertions.assertEquals(events, state[0]);
+            Assertions.assertEquals(0, state[1]);
+        }
+    }
+
+    private static class Tick {
+        long price;
+    }
+}
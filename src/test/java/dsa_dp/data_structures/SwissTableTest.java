@@ -0,0 +1,135 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.hash_table.SwissTable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Random;
+
+public class SwissTableTest {
+
+    @Test
+    public void correctAddGetPutTest() {
+        SwissTable<String, Integer> table = new SwissTable<>();
+        table.add("andrea", 29);
+        table.add("federica", 30);
+        table.add("luigi", 36);
+        table.add("andrea", 30);
+
+        Assertions.assertEquals(3, table.size());
+        Assertions.assertEquals(30, table.get("andrea"));
+        Assertions.assertEquals(36, table.get("luigi"));
+        Assertions.assertNull(table.get("riccardo"));
+        Assertions.assertTrue(table.containsKey("federica"));
+
+        Assertions.assertTrue(table.put("luigi", 37));
+        Assertions.assertFalse(table.put("riccardo", 12));
+        Assertions.assertEquals(37, table.get("luigi"));
+        Assertions.assertEquals(3, table.size());
+    }
+
+    @Test
+    public void correctRemoveTest() {
+        SwissTable<Integer, String> table = new SwissTable<>();
+
+        for (int i = 0; i < 100; i++) {
+            table.add(i, "v" + i);
+        }
+
+        Assertions.assertTrue(table.remove(42));
+        Assertions.assertFalse(table.remove(42));
+        Assertions.assertNull(table.get(42));
+        Assertions.assertEquals(99, table.size());
+
+        for (int i = 0; i < 100; i++) {
+            if (i != 42) Assertions.assertEquals("v" + i, table.get(i));
+        }
+    }
+
+    @Test
+    public void correctResizeTest() {
+        SwissTable<Integer, Integer> table = new SwissTable<>(100);
+        int capacity = table.capacity();
+
+        for (int i = 0; i < 100; i++) {
+            table.add(i, i);
+        }
+
+        Assertions.assertEquals(capacity, table.capacity());
+
+        for (int i = 100; i < capacity; i++) {
+            table.add(i, i);
+        }
+
+        Assertions.assertEquals(capacity * 2, table.capacity());
+
+        for (int i = 0; i < capacity; i++) {
+            Assertions.assertEquals(i, table.get(i));
+        }
+    }
+
+    @Test
+    public void collidingKeysTest() {
+        SwissTable<CollidingKey, Integer> table = new SwissTable<>();
+
+        // Every key has the same hash, so every key lands in the same group with the same H2
+        for (int i = 0; i < 50; i++) {
+            table.add(new CollidingKey(i), i);
+        }
+
+        for (int i = 0; i < 50; i += 2) {
+            Assertions.assertTrue(table.remove(new CollidingKey(i)));
+        }
+
+        Assertions.assertEquals(25, table.size());
+
+        for (int i = 0; i < 50; i++) {
+            Assertions.assertEquals(i % 2 == 0 ? null : i, table.get(new CollidingKey(i)));
+        }
+    }
+
+    @Test
+    public void randomOperationsTest() {
+        SwissTable<Integer, Integer> table = new SwissTable<>();
+        HashMap<Integer, Integer> expected = new HashMap<>();
+        Random rand = new Random(13);
+
+        // Heavy churn, the DELETED slots must be recycled by the rehashes without growing the table forever
+        for (int i = 0; i < 300_000; i++) {
+            int key = rand.nextInt(3000);
+
+            if (rand.nextBoolean()) {
+                Assertions.assertEquals(expected.remove(key) != null, table.remove(key));
+            } else {
+                table.add(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        Assertions.assertEquals(expected.size(), table.size());
+        Assertions.assertTrue(table.capacity() <= 8192);
+
+        for (int key = 0; key < 3000; key++) {
+            Assertions.assertEquals(expected.get(key), table.get(key));
+        }
+    }
+
+    private static class CollidingKey {
+        private final int id;
+
+        CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 7;
+        }
+    }
+}
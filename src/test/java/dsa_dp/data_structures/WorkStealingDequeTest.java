@@ -0,0 +1,92 @@
+package dsa_dp.data_structures;
+
+import dsa_dp.data_structures.stack.WorkStealingDeque;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class WorkStealingDequeTest {
+
+    @Test
+    public void ownerPopAndStealOrderTest() {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(2);
+        Assertions.assertNull(deque.tryPop());
+        Assertions.assertNull(deque.steal());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, deque::pop);
+
+        for (int i = 0; i < 10; i++) {
+            deque.push(i);
+        }
+
+        Assertions.assertEquals(10, deque.size());
+        Assertions.assertEquals(9, deque.peek());
+        // The owner works LIFO, thieves take the oldest items
+        Assertions.assertEquals(9, deque.pop());
+        Assertions.assertEquals(0, deque.steal());
+        Assertions.assertEquals(1, deque.steal());
+        Assertions.assertEquals(8, deque.pop());
+
+        for (int i = 7; i >= 2; i--) {
+            Assertions.assertEquals(i, deque.pop());
+        }
+
+        Assertions.assertTrue(deque.isEmpty());
+        Assertions.assertThrows(IndexOutOfBoundsException.class, deque::top);
+        Assertions.assertThrows(NullPointerException.class, () -> deque.push(null));
+    }
+
+    @Test
+    public void concurrentStealTest() throws InterruptedException {
+        WorkStealingDeque<Integer> deque = new WorkStealingDeque<>(4);
+        int tasks = 200_000, thieves = 3;
+        AtomicIntegerArray taken = new AtomicIntegerArray(tasks);
+        AtomicLong count = new AtomicLong();
+        ArrayList<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < thieves; i++) {
+            threads.add(new Thread(() -> {
+                while (count.get() < tasks) {
+                    Integer task = deque.steal();
+                    if (task == null) continue;
+
+                    taken.incrementAndGet(task);
+                    count.incrementAndGet();
+                }
+            }));
+        }
+
+        for (Thread thread : threads) thread.start();
+
+        // The owner pushes the tasks and pops some of them, like a parallel DFS expanding its nodes
+        for (int i = 0; i < tasks; i++) {
+            deque.push(i);
+
+            if (i % 3 == 0) {
+                Integer task = deque.tryPop();
+
+                if (task != null) {
+                    taken.incrementAndGet(task);
+                    count.incrementAndGet();
+                }
+            }
+        }
+
+        Integer task;
+        while ((task = deque.tryPop()) != null) {
+            taken.incrementAndGet(task);
+            count.incrementAndGet();
+        }
+
+        for (Thread thread : threads) thread.join();
+
+        // No task lost, none taken twice
+        Assertions.assertEquals(tasks, count.get());
+
+        for (int i = 0; i < tasks; i++) {
+            Assertions.assertEquals(1, taken.get(i));
+        }
+    }
+}